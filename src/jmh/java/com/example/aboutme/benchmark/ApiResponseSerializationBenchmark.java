@@ -0,0 +1,41 @@
+package com.example.aboutme.benchmark;
+
+import com.example.aboutme.apiPayload.ApiResponse;
+import com.example.aboutme.app.dto.ProfileResponse;
+import com.example.aboutme.app.dto.SpaceResponse;
+import com.example.aboutme.converter.ProfileConverter;
+import com.example.aboutme.converter.SpaceConverter;
+import com.example.aboutme.domain.Space;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ApiResponseSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<ProfileResponse.GetProfileListDTO> profileListResponse;
+    private ApiResponse<SpaceResponse.ReadResultDTO> spaceResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        profileListResponse = ApiResponse.onSuccess(ProfileConverter.toGetProfileListDTO(BenchmarkFixtures.profiles(3)));
+        Space space = BenchmarkFixtures.space(10, 10);
+        spaceResponse = ApiResponse.onSuccess(SpaceConverter.toReadResultDTO(space, space.getPlanList(), 1_000L));
+    }
+
+    @Benchmark
+    public byte[] serializeProfileList() throws Exception {
+        return objectMapper.writeValueAsBytes(profileListResponse);
+    }
+
+    @Benchmark
+    public byte[] serializeSpace() throws Exception {
+        return objectMapper.writeValueAsBytes(spaceResponse);
+    }
+}
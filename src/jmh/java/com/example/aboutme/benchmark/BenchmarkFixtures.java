@@ -0,0 +1,108 @@
+package com.example.aboutme.benchmark;
+
+import com.example.aboutme.domain.Plan;
+import com.example.aboutme.domain.Profile;
+import com.example.aboutme.domain.ProfileFeature;
+import com.example.aboutme.domain.ProfileImage;
+import com.example.aboutme.domain.Space;
+import com.example.aboutme.domain.SpaceImage;
+import com.example.aboutme.domain.constant.Mood;
+import com.example.aboutme.domain.constant.ProfileImageType;
+import com.example.aboutme.domain.constant.Side;
+import com.example.aboutme.domain.mapping.MemberProfile;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크용 엔티티 그래프 (DB 없이 builder 로만 구성)
+ */
+public class BenchmarkFixtures {
+
+    private static final String[] KEYS = {"name", "mbti", "hobby", "school", "job", "music"};
+
+    public static Profile profile(long id) {
+        List<ProfileFeature> profileFeatureList = new ArrayList<>();
+
+        for (int i = 0; i < KEYS.length; i++) {
+            profileFeatureList.add(ProfileFeature.builder()
+                    .id(id * 10 + i)
+                    .side(i < 3 ? Side.FRONT : Side.BACK)
+                    .profileKey(KEYS[i])
+                    .profileValue(KEYS[i] + "-" + id)
+                    .build());
+        }
+
+        ProfileImage profileImage = ProfileImage.builder()
+                .id(id)
+                .type(ProfileImageType.USER_IMAGE)
+                .imageUrl("https://aboutme-s3.s3.ap-northeast-2.amazonaws.com/" + id + ".png")
+                .build();
+
+        return Profile.builder()
+                .id(id)
+                .serialNumber(100000 + (int) id)
+                .isDefault(id == 1)
+                .profileFeatureList(profileFeatureList)
+                .profileImage(profileImage)
+                .memberProfileList(new ArrayList<>())
+                .build();
+    }
+
+    public static List<Profile> profiles(int size) {
+        List<Profile> profileList = new ArrayList<>();
+
+        for (long id = 1; id <= size; id++) {
+            profileList.add(profile(id));
+        }
+
+        return profileList;
+    }
+
+    public static List<MemberProfile> memberProfiles(int size) {
+        List<MemberProfile> memberProfileList = new ArrayList<>();
+
+        for (long id = 1; id <= size; id++) {
+            memberProfileList.add(MemberProfile.builder()
+                    .id(id)
+                    .favorite(id % 3 == 0)
+                    .profile(profile(id))
+                    .build());
+        }
+
+        return memberProfileList;
+    }
+
+    public static Space space(int imageCount, int planCount) {
+        List<SpaceImage> spaceImageList = new ArrayList<>();
+        List<Plan> planList = new ArrayList<>();
+
+        for (long id = 1; id <= imageCount; id++) {
+            spaceImageList.add(SpaceImage.builder()
+                    .id(id)
+                    .image("https://aboutme-s3.s3.ap-northeast-2.amazonaws.com/space-" + id + ".png")
+                    .build());
+        }
+
+        for (long id = 1; id <= planCount; id++) {
+            planList.add(Plan.builder()
+                    .id(id)
+                    .content("plan " + id)
+                    .date(LocalDate.of(2024, 1, 1).plusDays(id))
+                    .build());
+        }
+
+        return Space.builder()
+                .id(1L)
+                .nickname("aboutme")
+                .characterType(1)
+                .roomType(2)
+                .mood(Mood.HAPPY)
+                .musicUrl("https://music.example.com/1")
+                .statusMessage("hello")
+                .spaceImageList(spaceImageList)
+                .planList(planList)
+                .build();
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.aboutme.benchmark;
+
+import com.example.aboutme.app.dto.MemberProfileResponse;
+import com.example.aboutme.app.dto.ProfileResponse;
+import com.example.aboutme.app.dto.SpaceResponse;
+import com.example.aboutme.converter.MemberProfileConverter;
+import com.example.aboutme.converter.ProfileConverter;
+import com.example.aboutme.converter.SpaceConverter;
+import com.example.aboutme.domain.Profile;
+import com.example.aboutme.domain.Space;
+import com.example.aboutme.domain.mapping.MemberProfile;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConverterBenchmark {
+
+    // 마이프로필은 멤버당 최대 3개, 보관함/아지트는 수십 건 단위
+    @Param({"3", "50"})
+    private int size;
+
+    private List<Profile> profileList;
+    private List<MemberProfile> memberProfileList;
+    private Space space;
+
+    @Setup
+    public void setUp() {
+        profileList = BenchmarkFixtures.profiles(size);
+        memberProfileList = BenchmarkFixtures.memberProfiles(size);
+        space = BenchmarkFixtures.space(size, size);
+    }
+
+    @Benchmark
+    public ProfileResponse.GetProfileListDTO toGetProfileListDTO() {
+        return ProfileConverter.toGetProfileListDTO(profileList);
+    }
+
+    @Benchmark
+    public MemberProfileResponse.SearchMemberProfileListDTO toSearchMemberProfileListDTO() {
+        return MemberProfileConverter.toSearchMemberProfileListDTO(memberProfileList);
+    }
+
+    @Benchmark
+    public SpaceResponse.ReadResultDTO toReadResultDTO() {
+        return SpaceConverter.toReadResultDTO(space, space.getPlanList(), 1_000L);
+    }
+}
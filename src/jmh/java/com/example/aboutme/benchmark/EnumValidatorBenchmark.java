@@ -0,0 +1,40 @@
+package com.example.aboutme.benchmark;
+
+import com.example.aboutme.domain.constant.Mood;
+import com.example.aboutme.validation.annotation.CheckEnumType;
+import com.example.aboutme.validation.validator.EnumValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EnumValidatorBenchmark {
+
+    @CheckEnumType(enumClass = Mood.class)
+    private String mood;
+
+    private EnumValidator enumValidator;
+
+    // 첫 번째/마지막 상수로 선형 탐색 비용 차이를 본다
+    @Param({"HAPPY", "COLD"})
+    private String value;
+
+    @Setup
+    public void setUp() throws Exception {
+        CheckEnumType checkEnumType = EnumValidatorBenchmark.class.getDeclaredField("mood")
+                .getAnnotation(CheckEnumType.class);
+
+        enumValidator = new EnumValidator();
+        enumValidator.initialize(checkEnumType);
+    }
+
+    /**
+     * 유효한 값만 측정 (실패 경로는 ConstraintValidatorContext 가 필요)
+     */
+    @Benchmark
+    public boolean isValid() {
+        return enumValidator.isValid(value, null);
+    }
+}
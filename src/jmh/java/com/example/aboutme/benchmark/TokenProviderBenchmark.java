@@ -0,0 +1,41 @@
+package com.example.aboutme.benchmark;
+
+import com.example.aboutme.Login.jwt.TokenDTO;
+import com.example.aboutme.Login.jwt.TokenProvider;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TokenProviderBenchmark {
+
+    private TokenProvider tokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        tokenProvider = new TokenProvider();
+
+        // @Value 주입 대신 HS512 키 길이(64바이트)를 만족하는 시크릿을 직접 넣는다
+        Field secret = TokenProvider.class.getDeclaredField("secret");
+        secret.setAccessible(true);
+        secret.set(tokenProvider, Base64.getEncoder().encodeToString(new byte[64]));
+        tokenProvider.afterPropertiesSet();
+
+        token = tokenProvider.createToken("benchmark@aboutme.com", "KAKAO");
+    }
+
+    @Benchmark
+    public String createToken() {
+        return tokenProvider.createToken("benchmark@aboutme.com", "KAKAO");
+    }
+
+    @Benchmark
+    public TokenDTO.tokenClaimsDTO getTokenInfoFromToken() {
+        return tokenProvider.getTokenInfoFromToken(token);
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.aboutme.loadtest;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AbstractAmazonS3;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import com.amazonaws.services.s3.model.S3Object;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * 부하 테스트용 S3 대역
+ * S3Service 가 사용하는 putObject / getUrl / getObject / deleteObject 만 로컬 디렉터리로 구현한다.
+ */
+public class FileSystemAmazonS3 extends AbstractAmazonS3 {
+
+    private final Path root;
+
+    public FileSystemAmazonS3(Path root) {
+        this.root = root;
+    }
+
+    @Override
+    public PutObjectResult putObject(PutObjectRequest putObjectRequest) {
+        Path target = resolve(putObjectRequest.getBucketName(), putObjectRequest.getKey());
+
+        try {
+            Files.createDirectories(target.getParent());
+
+            if (putObjectRequest.getFile() != null) {
+                Files.copy(putObjectRequest.getFile().toPath(), target, StandardCopyOption.REPLACE_EXISTING);
+            } else {
+                try (InputStream inputStream = putObjectRequest.getInputStream()) {
+                    Files.copy(inputStream, target, StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+        } catch (IOException e) {
+            throw new SdkClientException("로컬 파일 저장 실패: " + target, e);
+        }
+
+        return new PutObjectResult();
+    }
+
+    @Override
+    public URL getUrl(String bucketName, String key) {
+        try {
+            return resolve(bucketName, key).toUri().toURL();
+        } catch (MalformedURLException e) {
+            throw new SdkClientException("잘못된 파일 경로: " + key, e);
+        }
+    }
+
+    @Override
+    public S3Object getObject(String bucketName, String key) {
+        Path source = resolve(bucketName, key);
+
+        if (!Files.exists(source)) {
+            AmazonS3Exception exception = new AmazonS3Exception("The specified key does not exist.");
+            exception.setStatusCode(404);
+            throw exception;
+        }
+
+        try {
+            ObjectMetadata objectMetadata = new ObjectMetadata();
+            objectMetadata.setContentLength(Files.size(source));
+
+            S3Object s3Object = new S3Object();
+            s3Object.setBucketName(bucketName);
+            s3Object.setKey(key);
+            s3Object.setObjectMetadata(objectMetadata);
+            s3Object.setObjectContent(Files.newInputStream(source));
+            return s3Object;
+        } catch (IOException e) {
+            throw new SdkClientException("로컬 파일 읽기 실패: " + source, e);
+        }
+    }
+
+    @Override
+    public void deleteObject(String bucketName, String key) {
+        try {
+            Files.deleteIfExists(resolve(bucketName, key));
+        } catch (IOException e) {
+            throw new SdkClientException("로컬 파일 삭제 실패: " + key, e);
+        }
+    }
+
+    private Path resolve(String bucketName, String key) {
+        Path bucket = root.resolve(bucketName).normalize();
+        Path path = bucket.resolve(key).normalize();
+
+        if (!path.startsWith(bucket)) {
+            throw new SdkClientException("잘못된 파일 경로: " + key);
+        }
+
+        return path;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.aboutme.loadtest;
+
+import com.amazonaws.services.s3.AmazonS3;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.nio.file.Path;
+
+@Configuration
+@Profile("loadtest")
+public class LoadTestS3Config {
+
+    @Value("${loadtest.s3.root:${java.io.tmpdir}/aboutme-s3}")
+    private String root;
+
+    @Bean
+    public AmazonS3 amazonS3Client() {
+        return new FileSystemAmazonS3(Path.of(root));
+    }
+}
@@ -0,0 +1,196 @@
+package com.example.aboutme.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * loadtest 프로필로 띄운 서버에 대한 시나리오 부하 발생기
+ * 로그인 → 마이프로필 생성 → 공유(보관함 추가, 알림 전송) → 보관함 조회 → 알림 조회
+ *
+ * ./gradlew loadTest -PbaseUrl=http://localhost:8080 -Pusers=50 -Piterations=20
+ */
+public class LoadTestScenarioRunner {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final String baseUrl;
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    public LoadTestScenarioRunner(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = System.getProperty("baseUrl", "http://localhost:8080");
+        int users = Integer.getInteger("users", 50);
+        int iterations = Integer.getInteger("iterations", 20);
+
+        LoadTestScenarioRunner runner = new LoadTestScenarioRunner(baseUrl);
+        long start = System.nanoTime();
+        runner.run(users, iterations);
+        long elapsedNanos = System.nanoTime() - start;
+
+        runner.report(elapsedNanos);
+    }
+
+    public void run(int users, int iterations) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(users);
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+
+        try {
+            // 1. 로그인 + 마이프로필 생성
+            List<Future<VirtualUser>> setups = new ArrayList<>();
+            for (int i = 0; i < users; i++) {
+                String name = "user-" + runId + "-" + i;
+                setups.add(executor.submit(() -> setUp(name)));
+            }
+
+            List<VirtualUser> virtualUsers = new ArrayList<>();
+            for (Future<VirtualUser> setup : setups) {
+                virtualUsers.add(setup.get());
+            }
+
+            // 2. 옆 사용자와 공유한 뒤 보관함, 알림 반복 조회
+            List<Future<?>> scenarios = new ArrayList<>();
+            for (int i = 0; i < users; i++) {
+                VirtualUser me = virtualUsers.get(i);
+                VirtualUser neighbor = virtualUsers.get((i + 1) % users);
+                scenarios.add(executor.submit(() -> {
+                    share(me, neighbor);
+                    for (int n = 0; n < iterations; n++) {
+                        call("GET /myprofiles/storage", get("/myprofiles/storage", me.token));
+                        call("GET /alarms", get("/alarms", me.token));
+                        call("GET /myprofiles", get("/myprofiles", me.token));
+                    }
+                    return null;
+                }));
+            }
+
+            for (Future<?> scenario : scenarios) {
+                scenario.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    VirtualUser setUp(String name) throws Exception {
+        JsonNode login = call("POST /members/kakao/login",
+                post("/members/kakao/login", null, "{\"token\":\"" + name + "\"}"));
+        String token = login.path("result").path("jwtToken").asText();
+
+        JsonNode profile = call("POST /myprofiles",
+                post("/myprofiles", token, "{\"name\":\"" + name + "\"}"));
+        int serialNumber = profile.path("result").path("serial_number").asInt();
+
+        return new VirtualUser(token, serialNumber);
+    }
+
+    void share(VirtualUser me, VirtualUser neighbor) throws Exception {
+        call("POST /myprofiles/share", post("/myprofiles/share", me.token,
+                "{\"profile_serial_numbers\":[" + neighbor.serialNumber + "]}"));
+        call("POST /myprofiles/send", post("/myprofiles/send", me.token,
+                "{\"others_profile_serial_numbers\":[" + neighbor.serialNumber + "],"
+                        + "\"my_profile_serial_numbers\":[" + me.serialNumber + "]}"));
+    }
+
+    HttpRequest get(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).GET();
+        if (token != null) {
+            builder.header("token", token);
+        }
+        return builder.build();
+    }
+
+    private HttpRequest post(String path, String token, String body) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (token != null) {
+            builder.header("token", token);
+        }
+        return builder.build();
+    }
+
+    JsonNode call(String label, HttpRequest request) throws Exception {
+        Endpoint endpoint = endpoints.computeIfAbsent(label, key -> new Endpoint());
+        long start = System.nanoTime();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        endpoint.record(System.nanoTime() - start);
+
+        JsonNode body = objectMapper.readTree(response.body());
+        if (response.statusCode() >= 400 || !body.path("isSuccess").asBoolean()) {
+            endpoint.errors.incrementAndGet();
+            throw new IllegalStateException(label + " 실패: status=" + response.statusCode() + ", body=" + response.body());
+        }
+
+        return body;
+    }
+
+    public void report(long elapsedNanos) {
+        double elapsedSeconds = elapsedNanos / 1_000_000_000.0;
+
+        System.out.printf("%-30s %8s %8s %10s %10s %12s%n", "endpoint", "count", "errors", "p50(ms)", "p99(ms)", "throughput/s");
+        endpoints.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> {
+                    Endpoint endpoint = entry.getValue();
+                    List<Long> latencies = endpoint.sortedLatencies();
+                    System.out.printf("%-30s %8d %8d %10.2f %10.2f %12.1f%n",
+                            entry.getKey(),
+                            latencies.size(),
+                            endpoint.errors.get(),
+                            percentile(latencies, 0.50) / 1_000_000.0,
+                            percentile(latencies, 0.99) / 1_000_000.0,
+                            latencies.size() / elapsedSeconds);
+                });
+        System.out.printf("total elapsed: %.2fs%n", elapsedSeconds);
+    }
+
+    private static long percentile(List<Long> sorted, double percentile) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+        return sorted.get(Math.max(index, 0));
+    }
+
+    private static class Endpoint {
+        private final List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        private final AtomicLong errors = new AtomicLong();
+
+        void record(long nanos) {
+            latencies.add(nanos);
+        }
+
+        List<Long> sortedLatencies() {
+            List<Long> copy;
+            synchronized (latencies) {
+                copy = new ArrayList<>(latencies);
+            }
+            Collections.sort(copy);
+            return copy;
+        }
+    }
+
+    record VirtualUser(String token, int serialNumber) {
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.aboutme.loadtest;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * 부하 테스트용 카카오/구글 OAuth 대역
+ * 액세스 토큰 문자열을 그대로 사용자 식별자로 사용한다. (토큰 "user-1" → user-1@loadtest.local)
+ */
+@RestController
+@Profile("loadtest")
+@RequestMapping("/stub")
+public class OAuthStubController {
+
+    private static final String EMAIL_DOMAIN = "@loadtest.local";
+
+    @PostMapping("/kakao/oauth/token")
+    public Map<String, Object> kakaoToken(@RequestParam("code") String code) {
+        return Map.of("access_token", code, "refresh_token", code);
+    }
+
+    @GetMapping("/kakao/v2/user/me")
+    public Map<String, Object> kakaoUserInfo(@RequestHeader("Authorization") String authorization) {
+        String accessToken = accessToken(authorization);
+
+        return Map.of(
+                "id", (long) accessToken.hashCode(),
+                "kakao_account", Map.of(
+                        "email", accessToken + EMAIL_DOMAIN,
+                        "profile", Map.of("nickname", accessToken)));
+    }
+
+    @PostMapping("/google/token")
+    public Map<String, Object> googleToken(@RequestParam("code") String code) {
+        return Map.of("access_token", code, "refresh_token", code);
+    }
+
+    @GetMapping("/google/userinfo")
+    public Map<String, Object> googleUserInfo(@RequestHeader("Authorization") String authorization) {
+        String accessToken = accessToken(authorization);
+
+        return Map.of("sub", accessToken, "email", accessToken + EMAIL_DOMAIN);
+    }
+
+    private String accessToken(String authorization) {
+        return authorization.replaceFirst("(?i)^Bearer ", "");
+    }
+}
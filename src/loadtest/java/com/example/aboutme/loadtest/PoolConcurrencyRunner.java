@@ -0,0 +1,168 @@
+package com.example.aboutme.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 커넥션 풀 크기를 고정하고 동시 사용자 수를 늘려가며 조회 API 를 호출한다
+ * 단계마다 엔드포인트별 p50/p99, 처리량과 요청당 커넥션 점유 시간(hikaricp.connections.usage)을 출력한다.
+ * open-in-view 를 켠 서버와 끈 서버를 같은 풀 크기로 띄워 오류 없이 버티는 동시 사용자 수를 비교한다.
+ *
+ * ./gradlew bootRunLoadtest --args='--spring.datasource.primary.maximum-pool-size=5 --spring.datasource.replica.maximum-pool-size=5 --spring.jpa.open-in-view=true'
+ * ./gradlew poolLoadTest -Psteps=10,25,50,100 -PstepSeconds=20 -PmanagementUrl=http://localhost:8081
+ */
+public class PoolConcurrencyRunner {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static final List<String> READ_PATHS = List.of("/myprofiles", "/myprofiles/storage", "/alarms", "/mypages");
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final String baseUrl;
+    private final String managementUrl;
+
+    public PoolConcurrencyRunner(String baseUrl, String managementUrl) {
+        this.baseUrl = baseUrl;
+        this.managementUrl = managementUrl;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = System.getProperty("baseUrl", "http://localhost:8080");
+        String managementUrl = System.getProperty("managementUrl", "http://localhost:8081");
+        int[] steps = Arrays.stream(System.getProperty("steps", "10,25,50,100").split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .toArray();
+        long stepSeconds = Long.getLong("stepSeconds", 20);
+
+        new PoolConcurrencyRunner(baseUrl, managementUrl).run(steps, stepSeconds);
+    }
+
+    public void run(int[] steps, long stepSeconds) throws Exception {
+        int maxUsers = Arrays.stream(steps).max().orElse(1);
+        List<LoadTestScenarioRunner.VirtualUser> virtualUsers = setUp(maxUsers);
+
+        for (int users : steps) {
+            LoadTestScenarioRunner stepRunner = new LoadTestScenarioRunner(baseUrl);
+            PoolUsage before = poolUsage();
+
+            long start = System.nanoTime();
+            runStep(stepRunner, virtualUsers.subList(0, users), stepSeconds);
+            long elapsedNanos = System.nanoTime() - start;
+
+            PoolUsage after = poolUsage();
+            System.out.printf("%n=== concurrent users: %d ===%n", users);
+            stepRunner.report(elapsedNanos);
+            System.out.printf("connection checkouts: %.0f, mean hold: %.2fms, max hold: %.2fms%n",
+                    after.count - before.count,
+                    after.meanMillisSince(before),
+                    after.maxMillis);
+        }
+    }
+
+    private List<LoadTestScenarioRunner.VirtualUser> setUp(int users) throws Exception {
+        LoadTestScenarioRunner setUpRunner = new LoadTestScenarioRunner(baseUrl);
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(users, 20));
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+
+        try {
+            List<Future<LoadTestScenarioRunner.VirtualUser>> setups = new ArrayList<>();
+            for (int i = 0; i < users; i++) {
+                String name = "pool-" + runId + "-" + i;
+                setups.add(executor.submit(() -> setUpRunner.setUp(name)));
+            }
+
+            List<LoadTestScenarioRunner.VirtualUser> virtualUsers = new ArrayList<>();
+            for (Future<LoadTestScenarioRunner.VirtualUser> setup : setups) {
+                virtualUsers.add(setup.get());
+            }
+
+            // 보관함, 알림이 비어 있지 않도록 옆 사용자와 공유
+            List<Future<?>> shares = new ArrayList<>();
+            for (int i = 0; i < users; i++) {
+                LoadTestScenarioRunner.VirtualUser me = virtualUsers.get(i);
+                LoadTestScenarioRunner.VirtualUser neighbor = virtualUsers.get((i + 1) % users);
+                shares.add(executor.submit(() -> {
+                    setUpRunner.share(me, neighbor);
+                    return null;
+                }));
+            }
+            for (Future<?> share : shares) {
+                share.get();
+            }
+
+            return virtualUsers;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void runStep(LoadTestScenarioRunner stepRunner, List<LoadTestScenarioRunner.VirtualUser> virtualUsers, long stepSeconds) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(virtualUsers.size());
+        long deadline = System.nanoTime() + stepSeconds * 1_000_000_000L;
+
+        try {
+            List<Future<?>> scenarios = new ArrayList<>();
+            for (LoadTestScenarioRunner.VirtualUser me : virtualUsers) {
+                scenarios.add(executor.submit(() -> {
+                    for (int n = 0; System.nanoTime() < deadline; n++) {
+                        String path = READ_PATHS.get(n % READ_PATHS.size());
+                        try {
+                            stepRunner.call("GET " + path, stepRunner.get(path, me.token()));
+                        } catch (Exception e) {
+                            // 풀 고갈로 인한 실패는 오류 수로만 집계하고 계속 호출한다
+                        }
+                    }
+                    return null;
+                }));
+            }
+
+            for (Future<?> scenario : scenarios) {
+                scenario.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * primary, replica 풀을 합친 커넥션 점유 시간
+     */
+    private PoolUsage poolUsage() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(managementUrl + "/actuator/metrics/hikaricp.connections.usage")).GET().build();
+        JsonNode body = objectMapper.readTree(httpClient.send(request, HttpResponse.BodyHandlers.ofString()).body());
+
+        double count = 0;
+        double totalSeconds = 0;
+        double maxSeconds = 0;
+        for (JsonNode measurement : body.path("measurements")) {
+            switch (measurement.path("statistic").asText()) {
+                case "COUNT" -> count = measurement.path("value").asDouble();
+                case "TOTAL_TIME" -> totalSeconds = measurement.path("value").asDouble();
+                case "MAX" -> maxSeconds = measurement.path("value").asDouble();
+                default -> {
+                }
+            }
+        }
+        return new PoolUsage(count, totalSeconds * 1000, maxSeconds * 1000);
+    }
+
+    private record PoolUsage(double count, double totalMillis, double maxMillis) {
+
+        double meanMillisSince(PoolUsage before) {
+            double checkouts = count - before.count;
+            return checkouts == 0 ? 0 : (totalMillis - before.totalMillis) / checkouts;
+        }
+    }
+}
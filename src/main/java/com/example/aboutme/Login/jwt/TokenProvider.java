@@ -56,9 +56,8 @@ public class TokenProvider implements InitializingBean {
 
     public boolean validateToken(String userToken) {
         try {
-            System.out.println(userToken);
             Jwts.parser().setSigningKey(key).parseClaimsJws(userToken);
-            System.out.println("Success valid");
+            log.debug("토큰 검증 성공");
             return true;
         } catch (SecurityException | MalformedJwtException e) {
             return false;
@@ -99,7 +98,7 @@ public class TokenProvider implements InitializingBean {
                 .build()
                 .parseClaimsJws(token)
                 .getBody();
-        System.out.println(claims.get("iss", String.class));
+        log.debug("토큰 발급자: {}", claims.get("iss", String.class));
         return claims.get("sub", String.class);
     }
 
@@ -0,0 +1,25 @@
+package com.example.aboutme.apiPayload;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * 조건부 조회(If-None-Match)용 ETag 생성
+ * 버전 문자열(개수, 마지막 수정 시각)과 응답 형태(fields 등)를 해시한다.
+ */
+public class ETags {
+
+    private ETags() {
+    }
+
+    public static String of(Object... parts) {
+        String source = Arrays.stream(parts)
+                .map(String::valueOf)
+                .collect(Collectors.joining("|"));
+
+        return DigestUtils.md5DigestAsHex(source.getBytes(StandardCharsets.UTF_8));
+    }
+}
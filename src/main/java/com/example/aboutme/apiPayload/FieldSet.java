@@ -0,0 +1,40 @@
+package com.example.aboutme.apiPayload;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 조회 API 의 fields= 파라미터 (응답 JSON 필드명, 쉼표 구분)
+ * 연관 목록(특징, 이미지, 계획 등)은 요청된 경우에만 조회하고 응답에 포함한다.
+ * 파라미터가 없으면 모든 필드를 포함한다.
+ */
+public class FieldSet {
+
+    private static final FieldSet ALL = new FieldSet(null);
+
+    private final Set<String> fields;
+
+    private FieldSet(Set<String> fields) {
+        this.fields = fields;
+    }
+
+    public static FieldSet all() {
+        return ALL;
+    }
+
+    public static FieldSet of(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+
+        return new FieldSet(Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .collect(Collectors.toUnmodifiableSet()));
+    }
+
+    public boolean includes(String field) {
+        return fields == null || fields.contains(field);
+    }
+}
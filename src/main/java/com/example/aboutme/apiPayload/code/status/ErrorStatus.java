@@ -15,6 +15,8 @@ public enum ErrorStatus implements BaseErrorCode {
     _UNAUTHORIZED(HttpStatus.UNAUTHORIZED,"COMMON401","인증이 필요합니다."),
     _FORBIDDEN(HttpStatus.FORBIDDEN, "COMMON403", "금지된 요청입니다."),
     _ENUM_TYPE_NOT_MATCH(HttpStatus.BAD_REQUEST, "COMMON404", "일치하는 타입이 없습니다"),
+    _CONFLICT(HttpStatus.CONFLICT, "COMMON409", "다른 요청과 동시에 수정되었습니다. 다시 시도해 주세요."),
+    _TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "COMMON429", "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요."),
 
     // 마이스페이스 에러
     _UNVALID_CHARACTER_TYPE(HttpStatus.BAD_REQUEST, "SPACE400", "캐릭터 타입은 1부터 9까지의 숫자만 가능합니다."),
@@ -27,6 +29,9 @@ public enum ErrorStatus implements BaseErrorCode {
     SPACE_ALREADY_EXIST(HttpStatus.BAD_REQUEST, "SPACE404", "이미 스페이스가 존재합니다."),
     SPACE_NICKNAME_ALREADY_EXIST(HttpStatus.BAD_REQUEST, "SPACE404", "스페이스 닉네임이 이미 존재합니다."),
 
+    // 계획 에러
+    PLAN_INVALID_RANGE(HttpStatus.BAD_REQUEST, "PLAN400", "조회 기간이 올바르지 않습니다."),
+
     // 마이프로필 에러
     PROFILE_SIZE_OVERFLOW(HttpStatus.BAD_REQUEST, "PROFILE400", "이 이상 마이프로필을 생성할 수 없습니다"),
     PROFILE_NOT_FOUND(HttpStatus.NOT_FOUND, "PROFILE401", "해당하는 프로필이 존재하지 않습니다"),
@@ -60,10 +65,19 @@ public enum ErrorStatus implements BaseErrorCode {
     // 소셜타입 에러
     UNKNOWN_SOCIALTYPE(HttpStatus.NOT_FOUND, "SOCIAL400", "해당 소셜 타입이 존재하지 않습니다."),
 
+    // 멱등성 에러
+    IDEMPOTENCY_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "IDEMPOTENCY409", "같은 Idempotency-Key 로 처리 중인 요청이 있습니다."),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "IDEMPOTENCY422", "같은 Idempotency-Key 로 다른 내용의 요청을 보낼 수 없습니다."),
+
     // 알람 에러
     ALARM_ALREADY_EXISTING(HttpStatus.BAD_REQUEST, "ALARM400", "해당 알람이 이미 존재합니다."),
     ALARM_NOT_MINE(HttpStatus.BAD_REQUEST, "ALARM401", "본인 알림이 아닙니다."),
-    ALARM_NOT_FOUND(HttpStatus.BAD_REQUEST, "ALARM402", "해당 알림이 존재하지 않습니다.");
+    ALARM_NOT_FOUND(HttpStatus.BAD_REQUEST, "ALARM402", "해당 알림이 존재하지 않습니다."),
+
+    // 방명록 에러
+    GUEST_BOOK_NOT_FOUND(HttpStatus.NOT_FOUND, "GUESTBOOK400", "해당 방명록이 존재하지 않습니다."),
+    GUEST_BOOK_NOT_MINE(HttpStatus.BAD_REQUEST, "GUESTBOOK401", "방명록을 삭제할 수 없습니다."),
+    GUEST_BOOK_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "GUESTBOOK503", "방명록 작성 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
 
 
     private final HttpStatus httpStatus;
@@ -3,6 +3,7 @@ import com.example.aboutme.apiPayload.ApiResponse;
 import com.example.aboutme.apiPayload.code.ErrorReasonDTO;
 import com.example.aboutme.apiPayload.code.status.ErrorStatus;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -51,6 +52,13 @@ public class ExceptionAdvice extends ResponseEntityExceptionHandler {
         return handleExceptionInternalArgs(e, HttpHeaders.EMPTY, ErrorStatus.valueOf("_BAD_REQUEST"),request, errors);
     }
 
+    @org.springframework.web.bind.annotation.ExceptionHandler
+    public ResponseEntity<Object> optimisticLock(OptimisticLockingFailureException e, WebRequest request) {
+        log.info("낙관적 락 충돌: {}", e.getMessage());
+
+        return handleExceptionInternalFalse(e, ErrorStatus._CONFLICT, HttpHeaders.EMPTY, ErrorStatus._CONFLICT.getHttpStatus(), request, null);
+    }
+
     @org.springframework.web.bind.annotation.ExceptionHandler
     public ResponseEntity<Object> exception(Exception e, WebRequest request) {
         e.printStackTrace();
@@ -3,8 +3,6 @@ package com.example.aboutme.app.controller;
 import com.example.aboutme.Login.jwt.TokenProvider;
 import com.example.aboutme.apiPayload.ApiResponse;
 import com.example.aboutme.app.dto.AlarmResponse;
-import com.example.aboutme.converter.AlarmConverter;
-import com.example.aboutme.domain.Alarm;
 import com.example.aboutme.domain.Member;
 import com.example.aboutme.domain.constant.Social;
 import com.example.aboutme.service.AlarmService.AlarmService;
@@ -13,8 +11,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/alarms")
@@ -38,11 +34,11 @@ public class AlarmController {
         Social social = tokenProvider.getTokenInfoFromToken(token).getSocial();
         Member member = memberService.findMember(email, social);
 
-        List<Alarm> alarmList = alarmService.getAlarmList(member.getId());
+        AlarmResponse.GetAlarmListDTO alarmListDTO = alarmService.getAlarmList(member.getId());
 
         log.info("프로필 알람 데이터 조회: member={}", member.getId());
 
-        return ApiResponse.onSuccess(AlarmConverter.toGetAlarmListDTO(alarmList));
+        return ApiResponse.onSuccess(alarmListDTO);
     }
 
     /**
@@ -0,0 +1,85 @@
+package com.example.aboutme.app.controller;
+
+import com.example.aboutme.Login.jwt.TokenProvider;
+import com.example.aboutme.apiPayload.ApiResponse;
+import com.example.aboutme.app.dto.GuestBookRequest;
+import com.example.aboutme.app.dto.GuestBookResponse;
+import com.example.aboutme.domain.Member;
+import com.example.aboutme.domain.constant.Social;
+import com.example.aboutme.service.GuestBookService.GuestBookService;
+import com.example.aboutme.service.MemberService.MemberService;
+import com.example.aboutme.validation.annotation.ExistMySpace;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+
+@Validated
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/myspaces")
+@Slf4j
+public class GuestBookController {
+
+    private final GuestBookService guestBookService;
+    private final TokenProvider tokenProvider;
+    private final MemberService memberService;
+
+    /**
+     * [POST] /myspaces/{spaceId}/guestbooks
+     * 방명록 작성 (접수 후 잠시 뒤 조회에 반영된다)
+     * @param token 토큰
+     * @param spaceId 스페이스 식별자
+     * @param request
+     * @return
+     */
+    @PostMapping("/{spaceId}/guestbooks")
+    public ApiResponse<GuestBookResponse.CreateResultDTO> writeGuestBook(@RequestHeader("token") String token,
+                                                                         @PathVariable @ExistMySpace Long spaceId,
+                                                                         @RequestBody @Valid GuestBookRequest.CreateDTO request) {
+        String email = tokenProvider.getTokenInfoFromToken(token).getEmail();
+        Social social = tokenProvider.getTokenInfoFromToken(token).getSocial();
+        Member member = memberService.findMember(email, social);
+
+        return ApiResponse.onSuccess(guestBookService.writeGuestBook(member.getId(), spaceId, request));
+    }
+
+    /**
+     * [GET] /myspaces/{spaceId}/guestbooks?cursor=&size=
+     * 방명록 조회 (최신순, 다음 페이지는 응답의 next_cursor 로 요청)
+     * @param spaceId 스페이스 식별자
+     * @param cursor 이전 페이지의 next_cursor
+     * @param size 페이지 크기
+     * @return
+     */
+    @GetMapping("/{spaceId}/guestbooks")
+    public ApiResponse<GuestBookResponse.GuestBookPageDTO> getGuestBooks(@PathVariable @ExistMySpace Long spaceId,
+                                                                         @RequestParam(required = false) Long cursor,
+                                                                         @RequestParam(defaultValue = "20") @Min(value = 1, message = "_BAD_REQUEST") @Max(value = 50, message = "_BAD_REQUEST") int size) {
+        return ApiResponse.onSuccess(guestBookService.getGuestBooks(spaceId, cursor, size));
+    }
+
+    /**
+     * [DELETE] /myspaces/guestbooks/{guestBookId}
+     * 방명록 삭제 (작성자 또는 스페이스 주인)
+     * @param token 토큰
+     * @param guestBookId 방명록 식별자
+     * @return
+     */
+    @DeleteMapping("/guestbooks/{guestBookId}")
+    public ApiResponse<Void> deleteGuestBook(@RequestHeader("token") String token, @PathVariable Long guestBookId) {
+        String email = tokenProvider.getTokenInfoFromToken(token).getEmail();
+        Social social = tokenProvider.getTokenInfoFromToken(token).getSocial();
+        Member member = memberService.findMember(email, social);
+
+        guestBookService.deleteGuestBook(member.getId(), guestBookId);
+
+        log.info("방명록 삭제: member={}, guestBook={}", member.getId(), guestBookId);
+
+        return ApiResponse.onSuccess(null);
+    }
+}
@@ -5,6 +5,7 @@ import com.example.aboutme.apiPayload.exception.GeneralException;
 import com.example.aboutme.app.dto.MsgResponse;
 import com.example.aboutme.app.dto.SocialInfoRequest;
 //import com.example.aboutme.Login.jwt.JwtAuthenticationFilter;
+import com.example.aboutme.Login.jwt.TokenDTO;
 import com.example.aboutme.Login.jwt.TokenProvider;
 import com.example.aboutme.domain.Member;
 import com.example.aboutme.domain.constant.Social;
@@ -15,6 +16,7 @@ import com.example.aboutme.converter.LoginConverter;
 import com.example.aboutme.repository.MemberRepository;
 import com.example.aboutme.service.MemberService.MemberService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.json.simple.JSONObject;
 import org.json.simple.parser.JSONParser;
 import org.springframework.http.ResponseEntity;
@@ -31,6 +33,7 @@ import java.io.IOException;
 
 @RequiredArgsConstructor
 @RestController
+@Slf4j
 public class LoginController {
     private final KakaoService kakaoService;
     private final GoogleService googleService;
@@ -39,8 +42,8 @@ public class LoginController {
 
     @GetMapping("tokenTest")
     public void tokenTest(@RequestHeader("token") String token){
-        System.out.println(tokenProvider.getTokenInfoFromToken(token).getEmail());
-        System.out.println(tokenProvider.getTokenInfoFromToken(token).getSocial());
+        TokenDTO.tokenClaimsDTO tokenClaimsDTO = tokenProvider.getTokenInfoFromToken(token);
+        log.debug("토큰 확인: memberId={}", memberService.findMember(tokenClaimsDTO.getEmail(), tokenClaimsDTO.getSocial()).getId());
     }
 
     @GetMapping("members/{socialType}/login")
@@ -118,7 +121,6 @@ public class LoginController {
         JSONParser jsonParser = new JSONParser();
         JSONObject jsonObj = (JSONObject) jsonParser.parse(token);
         String frontAccessToken = (String) jsonObj.get("token");
-        System.out.println(frontAccessToken);
 
         switch (socialType) {
             case "kakao":
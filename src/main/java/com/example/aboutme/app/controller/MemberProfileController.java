@@ -2,6 +2,7 @@ package com.example.aboutme.app.controller;
 
 import com.example.aboutme.Login.jwt.TokenProvider;
 import com.example.aboutme.apiPayload.ApiResponse;
+import com.example.aboutme.apiPayload.FieldSet;
 
 import com.example.aboutme.app.dto.MemberProfileRequest;
 import com.example.aboutme.app.dto.MemberProfileResponse;
@@ -21,7 +22,6 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
-import java.util.List;
 
 
 @RestController
@@ -36,10 +36,10 @@ public class MemberProfileController {
     private final MemberService memberService;
 
     @GetMapping()
-    public ApiResponse<MemberProfileResponse.SearchMemberProfileListDTO> getMyProfilesStorage(@RequestHeader("token") String token) {
+    public ApiResponse<MemberProfileResponse.SearchMemberProfileListDTO> getMyProfilesStorage(@RequestHeader("token") String token,
+                                                                                             @RequestParam(value = "fields", required = false) String fields) {
         String email = tokenProvider.getEmailFromToken(token);
-        List<MemberProfile> memberProfileList = memberProfileService.getMyProfilesStorage(email);
-        return ApiResponse.onSuccess(MemberProfileConverter.toSearchMemberProfileListDTO(memberProfileList));
+        return ApiResponse.onSuccess(memberProfileService.getMyProfilesStorage(email, FieldSet.of(fields)));
     }
 
     @DeleteMapping("/{profileId}")
@@ -49,16 +49,17 @@ public class MemberProfileController {
         return ApiResponse.onSuccess(MemberProfileConverter.toDeleteMemberProfileMsgDTO(memberProfile.getId(),"success"));
     }
 
-    @PatchMapping("/{profileId}/favorite")
-    public ApiResponse<MemberProfileResponse.favoriteDto> toggleFavorite(@RequestHeader("token") String token,
-                                                                         @PathVariable @ExistMyProfile Long profileId) {
+    @PutMapping("/{profileId}/favorite")
+    public ApiResponse<MemberProfileResponse.favoriteDto> updateFavorite(@RequestHeader("token") String token,
+                                                                         @PathVariable @ExistMyProfile Long profileId,
+                                                                         @RequestBody @Valid MemberProfileRequest.UpdateFavoriteDTO request) {
         String email = tokenProvider.getTokenInfoFromToken(token).getEmail();
         Social social = tokenProvider.getTokenInfoFromToken(token).getSocial();
         Member member = memberService.findMember(email, social);
 
-        Boolean favoriteStatus = memberProfileService.toggleFavorite(member.getId(), profileId);
+        Boolean favoriteStatus = memberProfileService.updateFavorite(member.getId(), profileId, request.getFavorite());
 
-        return ApiResponse.onSuccess(MemberProfileConverter.toToggleFavorite(favoriteStatus));
+        return ApiResponse.onSuccess(MemberProfileConverter.toFavoriteDTO(favoriteStatus));
     }
 
     @GetMapping("/search")
@@ -68,9 +69,9 @@ public class MemberProfileController {
         Social social = tokenProvider.getTokenInfoFromToken(token).getSocial();
         Member member = memberService.findMember(email, social);
 
-        List<MemberProfile> memberProfileList = memberProfileService.filterWithKeyword(member.getId(), keyword);
+        MemberProfileResponse.SearchMemberProfileListDTO memberProfileListDTO = memberProfileService.filterWithKeyword(member.getId(), keyword);
         log.info("프로필 보관함 내 검색하기: member={}, keyword={}", member.getId(), keyword);
 
-        return ApiResponse.onSuccess(MemberProfileConverter.toSearchMemberProfileListDTO(memberProfileList));
+        return ApiResponse.onSuccess(memberProfileListDTO);
     }
 }
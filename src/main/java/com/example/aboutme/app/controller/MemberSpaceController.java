@@ -2,6 +2,7 @@ package com.example.aboutme.app.controller;
 
 import com.example.aboutme.Login.jwt.TokenProvider;
 import com.example.aboutme.apiPayload.ApiResponse;
+import com.example.aboutme.app.dto.MemberSpaceRequest;
 import com.example.aboutme.app.dto.MemberSpaceResponse;
 import com.example.aboutme.converter.MemberSpaceConverter;
 import com.example.aboutme.domain.Member;
@@ -17,6 +18,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import javax.validation.Valid;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -40,21 +42,21 @@ public class MemberSpaceController {
         Social social = tokenProvider.getTokenInfoFromToken(token).getSocial();
         Member member = memberService.findMember(email, social);
 
-        List<MemberSpace> memberSpaceList = memberSpaceService.filterWithKeyword(member.getId(), keyword);
-        return ApiResponse.onSuccess(MemberSpaceConverter.toGetMemberSpaceListDTO(memberSpaceList));
+        return ApiResponse.onSuccess(memberSpaceService.filterWithKeyword(member.getId(), keyword));
     }
 
     // 아지트 내 스페이스 즐겨찾기
-    @PatchMapping("/{spaceId}/favorite")
-    public ApiResponse<MemberSpaceResponse.favoriteDto> toggleFavorite(@RequestHeader("token") String token,
-                                                                       @PathVariable @ExistMySpace Long spaceId) {
+    @PutMapping("/{spaceId}/favorite")
+    public ApiResponse<MemberSpaceResponse.favoriteDto> updateFavorite(@RequestHeader("token") String token,
+                                                                       @PathVariable @ExistMySpace Long spaceId,
+                                                                       @RequestBody @Valid MemberSpaceRequest.UpdateFavoriteDTO request) {
 
         String email = tokenProvider.getTokenInfoFromToken(token).getEmail();
         Social social = tokenProvider.getTokenInfoFromToken(token).getSocial();
         Member member = memberService.findMember(email, social);
 
-        Boolean favoriteStatus = memberSpaceService.toggleFavorite(member.getId(), spaceId);
-        return ApiResponse.onSuccess(MemberSpaceConverter.toToggleFavorite(favoriteStatus));
+        Boolean favoriteStatus = memberSpaceService.updateFavorite(member.getId(), spaceId, request.getFavorite());
+        return ApiResponse.onSuccess(MemberSpaceConverter.toFavoriteDTO(favoriteStatus));
     }
 
     // 아지트 내 스페이스 추가
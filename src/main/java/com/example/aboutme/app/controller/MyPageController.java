@@ -3,6 +3,7 @@ package com.example.aboutme.app.controller;
 import com.example.aboutme.Login.jwt.TokenDTO;
 import com.example.aboutme.Login.jwt.TokenProvider;
 import com.example.aboutme.apiPayload.ApiResponse;
+import com.example.aboutme.apiPayload.ETags;
 import com.example.aboutme.app.dto.MyPageResponse;
 import com.example.aboutme.service.MemberService.MemberService;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +12,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/mypages")
@@ -27,13 +29,16 @@ public class MyPageController {
      * @return
      */
     @GetMapping("")
-    public ApiResponse<MyPageResponse.GetMyPageDTO> getMyPage(@RequestHeader("token") String accessToken){
+    public ApiResponse<MyPageResponse.GetMyPageDTO> getMyPage(@RequestHeader("token") String accessToken, WebRequest webRequest){
 
         TokenDTO.tokenClaimsDTO tokenClaimsDTO = tokenProvider.getTokenInfoFromToken(accessToken);
 
-        MyPageResponse.GetMyPageDTO getMyPageDTO = memberService.getMyPage(tokenClaimsDTO);
+        // 변경이 없으면 본문 없이 304 응답
+        if (webRequest.checkNotModified(ETags.of(memberService.getMyPageVersion(tokenClaimsDTO)))) {
+            return null;
+        }
 
-        log.info("마이페이지 조회: {}", tokenClaimsDTO.getEmail());
+        MyPageResponse.GetMyPageDTO getMyPageDTO = memberService.getMyPage(tokenClaimsDTO);
 
         return ApiResponse.onSuccess(getMyPageDTO);
     }
@@ -0,0 +1,72 @@
+package com.example.aboutme.app.controller;
+
+import com.example.aboutme.Login.jwt.TokenProvider;
+import com.example.aboutme.apiPayload.ApiResponse;
+import com.example.aboutme.app.dto.PlanRequest;
+import com.example.aboutme.app.dto.PlanResponse;
+import com.example.aboutme.domain.Member;
+import com.example.aboutme.domain.constant.Social;
+import com.example.aboutme.service.MemberService.MemberService;
+import com.example.aboutme.service.SpaceService.SpaceService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import java.time.LocalDate;
+
+@Validated
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/myspaces")
+@Slf4j
+public class PlanController {
+
+    private final SpaceService spaceService;
+    private final TokenProvider tokenProvider;
+    private final MemberService memberService;
+
+    /**
+     * [POST] /myspaces/plans
+     * 계획 추가
+     * @param token 토큰
+     * @param request
+     * @return 추가된 계획
+     */
+    @PostMapping(value = "/plans", produces = "application/json;charset=UTF-8")
+    public ApiResponse<PlanResponse.planDTO> createPlan(@RequestHeader("token") String token,
+                                                        @RequestBody @Valid PlanRequest.CreatePlanDTO request) {
+        String email = tokenProvider.getTokenInfoFromToken(token).getEmail();
+        Social social = tokenProvider.getTokenInfoFromToken(token).getSocial();
+        Member member = memberService.findMember(email, social);
+
+        return ApiResponse.onSuccess(spaceService.createPlan(member.getId(), request));
+    }
+
+    /**
+     * [GET] /myspaces/plans?from=&to=&cursor=&size=
+     * 기간별 계획 조회 (날짜순, 다음 페이지는 응답의 next_from, next_cursor 로 요청)
+     * @param token 토큰
+     * @param from 시작 날짜 (yyyy-MM-dd, 포함)
+     * @param to 끝 날짜 (yyyy-MM-dd, 포함)
+     * @param cursor 이전 페이지의 next_cursor
+     * @param size 페이지 크기
+     * @return
+     */
+    @GetMapping(value = "/plans", produces = "application/json;charset=UTF-8")
+    public ApiResponse<PlanResponse.PlanPageDTO> getPlans(@RequestHeader("token") String token,
+                                                          @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                          @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                          @RequestParam(required = false) Long cursor,
+                                                          @RequestParam(defaultValue = "50") @Min(value = 1, message = "_BAD_REQUEST") @Max(value = 100, message = "_BAD_REQUEST") int size) {
+        String email = tokenProvider.getTokenInfoFromToken(token).getEmail();
+        Social social = tokenProvider.getTokenInfoFromToken(token).getSocial();
+        Member member = memberService.findMember(email, social);
+
+        return ApiResponse.onSuccess(spaceService.getPlans(member.getId(), from, to, cursor, size));
+    }
+}
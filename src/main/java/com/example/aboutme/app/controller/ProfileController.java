@@ -3,6 +3,8 @@ package com.example.aboutme.app.controller;
 import com.example.aboutme.Login.jwt.TokenDTO;
 import com.example.aboutme.Login.jwt.TokenProvider;
 import com.example.aboutme.apiPayload.ApiResponse;
+import com.example.aboutme.apiPayload.ETags;
+import com.example.aboutme.apiPayload.FieldSet;
 import com.example.aboutme.apiPayload.code.status.ErrorStatus;
 import com.example.aboutme.apiPayload.exception.GeneralException;
 import com.example.aboutme.app.dto.ProfileRequest;
@@ -11,7 +13,6 @@ import com.example.aboutme.converter.ProfileConverter;
 import com.example.aboutme.domain.Member;
 import com.example.aboutme.domain.Profile;
 import com.example.aboutme.domain.ProfileFeature;
-import com.example.aboutme.domain.ProfileImage;
 import com.example.aboutme.domain.constant.ProfileImageType;
 import com.example.aboutme.domain.constant.Social;
 import com.example.aboutme.service.MemberProfileService.MemberProfileService;
@@ -24,10 +25,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import javax.validation.Valid;
-import java.util.List;
 
 @Validated
 @RestController
@@ -49,14 +50,20 @@ public class ProfileController {
      * @return
      */
     @GetMapping()
-    public ApiResponse<ProfileResponse.GetProfileListDTO> getMyProfiles(@RequestHeader("token") String accessToken) {
+    public ApiResponse<ProfileResponse.GetProfileListDTO> getMyProfiles(@RequestHeader("token") String accessToken,
+                                                                        @RequestParam(value = "fields", required = false) String fields,
+                                                                        WebRequest webRequest) {
         TokenDTO.tokenClaimsDTO tokenClaimsDTO = tokenProvider.getTokenInfoFromToken(accessToken);
+        FieldSet fieldSet = FieldSet.of(fields);
 
-        List<Profile> profileList = profileService.getMyProfiles(tokenClaimsDTO);
+        // 변경이 없으면 본문 없이 304 응답
+        if (webRequest.checkNotModified(ETags.of(profileService.getMyProfilesVersion(tokenClaimsDTO), fields))) {
+            return null;
+        }
 
-        log.info("마이프로필 조회: member={}", tokenClaimsDTO.getEmail());
+        ProfileResponse.GetProfileListDTO profileListDTO = profileService.getMyProfiles(tokenClaimsDTO, fieldSet);
 
-        return ApiResponse.onSuccess(ProfileConverter.toGetProfileListDTO(profileList));
+        return ApiResponse.onSuccess(profileListDTO);
     }
 
     /**
@@ -67,13 +74,21 @@ public class ProfileController {
      * @return
      */
     @GetMapping("/{profile-id}")
-    public ApiResponse<ProfileResponse.GetMyProfileDTO> getMyProfile(@PathVariable("profile-id") @ExistMyProfile Long profileId) {
+    public ApiResponse<ProfileResponse.GetMyProfileDTO> getMyProfile(@PathVariable("profile-id") @ExistMyProfile Long profileId,
+                                                                     @RequestParam(value = "fields", required = false) String fields,
+                                                                     WebRequest webRequest) {
+        FieldSet fieldSet = FieldSet.of(fields);
+
+        // 변경이 없으면 본문 없이 304 응답
+        if (webRequest.checkNotModified(ETags.of(profileService.getMyProfileVersion(profileId), fields))) {
+            return null;
+        }
 
-        Profile profile = profileService.getMyProfile(profileId);
+        ProfileResponse.GetMyProfileDTO profileDTO = profileService.getMyProfile(profileId, fieldSet);
 
         log.info("마이프로필 조회(단건):git profileID={}", profileId);
 
-        return ApiResponse.onSuccess(ProfileConverter.toGetMyProfileDTO(profile));
+        return ApiResponse.onSuccess(profileDTO);
     }
 
     /**
@@ -159,11 +174,11 @@ public class ProfileController {
             throw new GeneralException(ErrorStatus.PROFILE_IMAGE_REQUIRED);
         }
 
-        ProfileImage updatedProfileImage = profileService.updateMyProfileImage(tokenClaimsDTO, profileId, image, request);
+        ProfileResponse.UpdateMyProfileImageDTO updatedProfileImageDTO = profileService.updateMyProfileImage(tokenClaimsDTO, profileId, image, request);
 
         log.info("내 마이프로필 이미지 수정: 타입={}, 프로필={}", request.getProfileImageType(), profileId);
 
-        return ApiResponse.onSuccess(ProfileConverter.toUpdateMyProfileImageDTO(updatedProfileImage));
+        return ApiResponse.onSuccess(updatedProfileImageDTO);
     }
 
     /**
@@ -203,7 +218,7 @@ public class ProfileController {
 
         memberProfileService.addOthersProfilesAtMyStorage(tokenClaimsDTO, request);
 
-        log.info("상대방 마이프로필 내 보관함에 추가하기: member={}, other's profile={}", tokenClaimsDTO.getEmail(), request.getProfileSerialNumberList());
+        log.info("상대방 마이프로필 내 보관함에 추가하기: other's profile={}", request.getProfileSerialNumberList());
 
         return ApiResponse.onSuccess(null);
     }
@@ -233,17 +248,36 @@ public class ProfileController {
 
     /**
      * [GET] /myprofiles/search?q=
-     * 프로필 검색
+     * 프로필 검색 (토큰이 있으면 프로필 방문자로 집계)
+     * @param accessToken 토큰 (선택)
      * @param serialNumber 시리얼 넘버
      * @return
      */
     @GetMapping("/search")
-    public ApiResponse<ProfileResponse.SearchProfileDTO> searchProfile(@RequestParam(value = "q") @ExistProfileBySerialNum int serialNumber){
+    public ApiResponse<ProfileResponse.SearchProfileDTO> searchProfile(@RequestHeader(value = "token", required = false) String accessToken,
+                                                                       @RequestParam(value = "q") @ExistProfileBySerialNum int serialNumber){
 
-        Profile profile = profileService.searchProfile(serialNumber);
+        TokenDTO.tokenClaimsDTO visitor = accessToken == null ? null : tokenProvider.getTokenInfoFromToken(accessToken);
+        ProfileResponse.SearchProfileDTO profileDTO = profileService.searchProfile(serialNumber, visitor);
 
         log.info("마이프로필 검색하기: {}", serialNumber);
 
-        return ApiResponse.onSuccess(ProfileConverter.toSearchProfile(profile));
+        return ApiResponse.onSuccess(profileDTO);
+    }
+
+    /**
+     * [POST] /myprofiles/search/batch
+     * 프로필 일괄 검색
+     * @param request 시리얼 넘버 목록 (최대 50개)
+     * @return
+     */
+    @PostMapping("/search/batch")
+    public ApiResponse<ProfileResponse.SearchProfileListDTO> searchProfiles(@RequestBody @Valid ProfileRequest.SearchProfileBatchDTO request){
+
+        ProfileResponse.SearchProfileListDTO profileListDTO = profileService.searchProfiles(request.getSerialNumberList());
+
+        log.info("마이프로필 일괄 검색하기: {}", request.getSerialNumberList());
+
+        return ApiResponse.onSuccess(profileListDTO);
     }
 }
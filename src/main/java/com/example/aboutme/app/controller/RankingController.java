@@ -0,0 +1,27 @@
+package com.example.aboutme.app.controller;
+
+import com.example.aboutme.apiPayload.ApiResponse;
+import com.example.aboutme.app.dto.RankingResponse;
+import com.example.aboutme.service.RankingService.RankingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/rankings")
+public class RankingController {
+
+    private final RankingService rankingService;
+
+    /**
+     * [GET] /rankings
+     * 가장 많이 저장된 스페이스(아지트), 프로필(보관함) 순위
+     * @return
+     */
+    @GetMapping
+    public ApiResponse<RankingResponse.RankingDTO> getRanking() {
+        return ApiResponse.onSuccess(rankingService.getRanking());
+    }
+}
@@ -1,7 +1,10 @@
 package com.example.aboutme.app.controller;
 
+import com.example.aboutme.Login.jwt.TokenDTO;
 import com.example.aboutme.Login.jwt.TokenProvider;
 import com.example.aboutme.apiPayload.ApiResponse;
+import com.example.aboutme.apiPayload.ETags;
+import com.example.aboutme.apiPayload.FieldSet;
 import com.example.aboutme.app.dto.*;
 import com.example.aboutme.converter.AlarmConverter;
 import com.example.aboutme.converter.SpaceConverter;
@@ -11,14 +14,15 @@ import com.example.aboutme.domain.Space;
 import com.example.aboutme.service.AlarmService.AlarmService;
 import com.example.aboutme.service.MemberService.MemberService;
 import com.example.aboutme.service.SpaceService.SpaceService;
+import com.example.aboutme.service.SpaceViewService.SpaceViewService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import javax.validation.Valid;
 import javax.validation.constraints.NotEmpty;
-import java.text.ParseException;
 
 @RestController
 @RequiredArgsConstructor
@@ -29,6 +33,7 @@ public class SpaceController {
     private final AlarmService alarmService;
     private final TokenProvider tokenProvider;
     private final MemberService memberService;
+    private final SpaceViewService spaceViewService;
 
     @PostMapping(value = "/", produces = "application/json;charset=UTF-8")
     public ApiResponse<SpaceResponse.JoinResultDTO> join (@RequestHeader("token") String token, @RequestBody @Valid SpaceRequest.JoinDTO request) {
@@ -39,11 +44,16 @@ public class SpaceController {
     }
 
     @GetMapping(value = "/", produces = "application/json;charset=UTF-8")
-    public ApiResponse<SpaceResponse.ReadResultDTO> read(@RequestHeader("token") String token) {
-        String email = tokenProvider.getEmailFromToken(token);
-        Member member = memberService.findMember(email);
-        Space newSpace = spaceService.readSpace(member.getId());
-        return ApiResponse.onSuccess(SpaceConverter.toReadResultDTO(newSpace));
+    public ApiResponse<SpaceResponse.ReadResultDTO> read(@RequestHeader("token") String token,
+                                                         @RequestParam(value = "fields", required = false) String fields,
+                                                         WebRequest webRequest) {
+        TokenDTO.tokenClaimsDTO tokenClaimsDTO = tokenProvider.getTokenInfoFromToken(token);
+        // 변경이 없으면 본문 없이 304 응답 (멤버를 읽기 전에 버전만 조회)
+        if (webRequest.checkNotModified(ETags.of(spaceService.readSpaceVersion(tokenClaimsDTO), fields))) {
+            return null;
+        }
+        Member member = memberService.findMember(tokenClaimsDTO);
+        return ApiResponse.onSuccess(spaceService.readSpace(member.getId(), FieldSet.of(fields)));
     }
 
     @DeleteMapping(value = "/", produces = "application/json;charset=UTF-8")
@@ -58,16 +68,7 @@ public class SpaceController {
     public ApiResponse<SpaceResponse.UpdateResultDTO> update(@RequestHeader("token") String token, @RequestBody @Valid SpaceRequest.UpdateDTO request) {
         String email = tokenProvider.getEmailFromToken(token);
         Member member = memberService.findMember(email);
-        Space updateSpace = spaceService.updateResult(member.getId(), request);
-        return ApiResponse.onSuccess(SpaceConverter.toUpdateResultDTO(updateSpace));
-    }
-
-    @PostMapping(value = "/plans", produces = "application/json;charset=UTF-8")
-    public ApiResponse<SpaceResponse.ReadResultDTO> join (@RequestHeader("token") String token, @RequestBody @Valid PlanRequest.CreatePlanDTO request) throws ParseException {
-        String email = tokenProvider.getEmailFromToken(token);
-        Member member = memberService.findMember(email);
-        Space newSpace = spaceService.createPlan(member.getId(), request);
-        return ApiResponse.onSuccess(SpaceConverter.toReadResultDTO(newSpace));
+        return ApiResponse.onSuccess(spaceService.updateResult(member.getId(), request));
     }
 
     @PostMapping(value = "/images", produces = "application/json;charset=UTF-8")
@@ -76,14 +77,14 @@ public class SpaceController {
 
         String email = tokenProvider.getEmailFromToken(token);
         Member member = memberService.findMember(email);
-        Space newSpace = spaceService.uploadImage(member.getId(), multipartFile);
-        return ApiResponse.onSuccess(SpaceConverter.toReadResultDTO(newSpace));
+        return ApiResponse.onSuccess(spaceService.uploadImage(member.getId(), multipartFile));
     }
 
     @GetMapping("/search")
     public ApiResponse<SpaceResponse.SearchResultDto> search(@RequestParam(defaultValue = "") String keyword) {
         Space space = spaceService.searchSpace(keyword);
-        return ApiResponse.onSuccess(SpaceConverter.toSearchResultDTO(space));
+        spaceViewService.recordView(space.getId());
+        return ApiResponse.onSuccess(SpaceConverter.toSearchResultDTO(space, spaceViewService.getViewCount(space.getId())));
     }
 
     @PostMapping(value = "/shares", produces = "application/json;charset=UTF-8")
@@ -0,0 +1,63 @@
+package com.example.aboutme.app.controller;
+
+import com.example.aboutme.Login.jwt.TokenProvider;
+import com.example.aboutme.apiPayload.ApiResponse;
+import com.example.aboutme.app.dto.SpaceResponse;
+import com.example.aboutme.domain.Member;
+import com.example.aboutme.domain.constant.Mood;
+import com.example.aboutme.domain.constant.Social;
+import com.example.aboutme.service.MemberService.MemberService;
+import com.example.aboutme.service.SpaceDiscoverService.SpaceDiscoverService;
+import com.example.aboutme.service.SpaceExploreService.SpaceExploreService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+
+@Validated
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/myspaces")
+public class SpaceDiscoverController {
+
+    private final SpaceDiscoverService spaceDiscoverService;
+    private final SpaceExploreService spaceExploreService;
+    private final TokenProvider tokenProvider;
+    private final MemberService memberService;
+
+    /**
+     * [GET] /myspaces/discover?mood=&roomType=&cursor=&size=
+     * 스페이스 둘러보기 (최신순, 다음 페이지는 응답의 nextCursor 로 요청)
+     * @param mood 기분 (선택)
+     * @param roomType 방 타입 (선택)
+     * @param cursor 이전 페이지의 nextCursor
+     * @param size 페이지 크기
+     * @return
+     */
+    @GetMapping("/discover")
+    public ApiResponse<SpaceResponse.DiscoverPageDTO> discover(@RequestParam(required = false) Mood mood,
+                                                               @RequestParam(required = false) @Min(value = 1, message = "_UNVALID_ROOM_TYPE") @Max(value = 4, message = "_UNVALID_ROOM_TYPE") Integer roomType,
+                                                               @RequestParam(required = false) Long cursor,
+                                                               @RequestParam(defaultValue = "20") @Min(value = 1, message = "_BAD_REQUEST") @Max(value = 50, message = "_BAD_REQUEST") int size) {
+        return ApiResponse.onSuccess(spaceDiscoverService.discoverSpaces(mood, roomType, cursor, size));
+    }
+
+    /**
+     * [GET] /myspaces/explore?size=
+     * 무작위 스페이스 (내 스페이스와 아지트에 추가한 스페이스 제외)
+     * @param token 토큰
+     * @param size 최대 개수
+     * @return
+     */
+    @GetMapping("/explore")
+    public ApiResponse<SpaceResponse.ExploreDTO> explore(@RequestHeader("token") String token,
+                                                         @RequestParam(defaultValue = "1") @Min(value = 1, message = "_BAD_REQUEST") @Max(value = 10, message = "_BAD_REQUEST") int size) {
+        String email = tokenProvider.getTokenInfoFromToken(token).getEmail();
+        Social social = tokenProvider.getTokenInfoFromToken(token).getSocial();
+        Member member = memberService.findMember(email, social);
+
+        return ApiResponse.onSuccess(spaceExploreService.exploreSpaces(member.getId(), size));
+    }
+}
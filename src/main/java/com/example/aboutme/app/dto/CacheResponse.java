@@ -0,0 +1,58 @@
+package com.example.aboutme.app.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+public class CacheResponse {
+
+    @Builder
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class GetCacheStatisticsDTO {
+        // false 면 통계를 모으지 않는 상태라 모든 값이 0 이다
+        @JsonProperty("statistics_enabled")
+        private boolean statisticsEnabled;
+
+        @JsonProperty("hit_count")
+        private long hitCount;
+
+        @JsonProperty("miss_count")
+        private long missCount;
+
+        @JsonProperty("put_count")
+        private long putCount;
+
+        @JsonProperty("regions")
+        private List<CacheRegionDTO> regionList;
+    }
+
+    @Builder
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CacheRegionDTO {
+        @JsonProperty("region")
+        private String region;
+
+        @JsonProperty("hit_count")
+        private long hitCount;
+
+        @JsonProperty("miss_count")
+        private long missCount;
+
+        @JsonProperty("put_count")
+        private long putCount;
+
+        @JsonProperty("hit_ratio")
+        private double hitRatio;
+
+        @JsonProperty("element_count")
+        private long elementCount;
+    }
+}
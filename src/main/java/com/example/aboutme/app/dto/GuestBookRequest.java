@@ -0,0 +1,16 @@
+package com.example.aboutme.app.dto;
+
+import lombok.Getter;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Size;
+
+public class GuestBookRequest {
+
+    @Getter
+    public static class CreateDTO {
+        @NotBlank
+        @Size(max = 255)
+        private String content;
+    }
+}
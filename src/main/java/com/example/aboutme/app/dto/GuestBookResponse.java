@@ -0,0 +1,51 @@
+package com.example.aboutme.app.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class GuestBookResponse {
+
+    @Builder
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class GuestBookDTO {
+        @JsonProperty("guest_book_id")
+        private Long guestBookId;
+        @JsonProperty("writer_id")
+        private Long writerId;
+        @JsonProperty("content")
+        private String content;
+        @JsonProperty("created_at")
+        private LocalDateTime createdAt;
+    }
+
+    @Builder
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class GuestBookPageDTO {
+        @JsonProperty("guest_books")
+        private List<GuestBookDTO> guestBookList;
+        // 다음 페이지 요청 시 cursor 로 넘기는 값 (마지막 페이지면 null)
+        @JsonProperty("next_cursor")
+        private Long nextCursor;
+    }
+
+    @Builder
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CreateResultDTO {
+        @JsonProperty("space_id")
+        private Long spaceId;
+        @JsonProperty("content")
+        private String content;
+    }
+}
@@ -2,9 +2,17 @@ package com.example.aboutme.app.dto;
 
 import lombok.Getter;
 
+import javax.validation.constraints.NotNull;
+
 public class MemberProfileRequest {
     @Getter
     public static class DeleteMemberDTO {
         private Long profileId;
     }
+
+    @Getter
+    public static class UpdateFavoriteDTO {
+        @NotNull
+        private Boolean favorite;
+    }
 }
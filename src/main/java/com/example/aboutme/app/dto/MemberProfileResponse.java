@@ -1,6 +1,7 @@
 package com.example.aboutme.app.dto;
 
 import com.example.aboutme.domain.constant.Social;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.*;
 
@@ -93,8 +94,10 @@ public class MemberProfileResponse {
     @AllArgsConstructor
     public static class SearchMemberProfileDTO{
         private Long profileId;
+        @JsonInclude(JsonInclude.Include.NON_NULL)
         private String profileName;
         private Boolean favorite;
+        @JsonInclude(JsonInclude.Include.NON_NULL)
         private ProfileResponse.ProfileImageDTO image;
     }
 }
@@ -0,0 +1,13 @@
+package com.example.aboutme.app.dto;
+
+import lombok.Getter;
+
+import javax.validation.constraints.NotNull;
+
+public class MemberSpaceRequest {
+    @Getter
+    public static class UpdateFavoriteDTO {
+        @NotNull
+        private Boolean favorite;
+    }
+}
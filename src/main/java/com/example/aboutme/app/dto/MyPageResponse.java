@@ -42,5 +42,9 @@ public class MyPageResponse {
 
         @JsonProperty("space_shared_num")
         private int spaceSharedNum;
+
+        // 내 프로필을 검색하거나 보관함에서 본 멤버 수 (추정치)
+        @JsonProperty("profile_visitor_num")
+        private long profileVisitorNum;
     }
 }
@@ -3,7 +3,7 @@ package com.example.aboutme.app.dto;
 import lombok.Getter;
 
 import javax.validation.constraints.NotEmpty;
-import java.util.Date;
+import java.time.LocalDate;
 
 public class PlanRequest {
     @Getter
@@ -11,5 +11,7 @@ public class PlanRequest {
         @NotEmpty
         private String content;
 
+        // 비우면 오늘 날짜로 저장
+        private LocalDate date;
     }
 }
@@ -1,13 +1,13 @@
 package com.example.aboutme.app.dto;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.joda.time.DateTime;
-import org.joda.time.LocalDateTime;
 
-import java.util.Date;
+import java.time.LocalDate;
+import java.util.List;
 
 public class PlanResponse {
     @Builder
@@ -18,4 +18,18 @@ public class PlanResponse {
         private String content;
         private String date;
     }
+
+    @Builder
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PlanPageDTO {
+        @JsonProperty("plans")
+        private List<planDTO> planList;
+        // 다음 페이지 요청 시 from, cursor 로 넘기는 값 (마지막 페이지면 null)
+        @JsonProperty("next_from")
+        private LocalDate nextFrom;
+        @JsonProperty("next_cursor")
+        private Long nextCursor;
+    }
 }
@@ -8,6 +8,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Getter;
 
 import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
 import java.util.List;
 
 public class ProfileRequest {
@@ -55,4 +56,12 @@ public class ProfileRequest {
         @ExistProfilesBySerialNum
         private List<Integer> MyProfileSerialNumberList;
     }
+
+    @Getter
+    public static class SearchProfileBatchDTO{
+        @JsonProperty("serial_numbers")
+        @NotEmpty
+        @Size(max = 50)
+        private List<Integer> serialNumberList;
+    }
 }
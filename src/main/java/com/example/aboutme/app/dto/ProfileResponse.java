@@ -1,6 +1,7 @@
 package com.example.aboutme.app.dto;
 
 import com.example.aboutme.domain.constant.ProfileImageType;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -70,9 +71,11 @@ public class ProfileResponse {
         private Boolean isDefault;
 
         @JsonProperty("profile_image")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
         private ProfileImageDTO profileImage;
 
         @JsonProperty("front_features")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
         private List<ProfileFeatureDTO> frontFeatureList;
     }
 
@@ -107,12 +110,15 @@ public class ProfileResponse {
         private Boolean isDefault;
 
         @JsonProperty("profile_image")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
         private ProfileImageDTO profileImage;
 
         @JsonProperty("front_features")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
         private List<ProfileFeatureDTO> frontFeatureList;
 
         @JsonProperty("back_features")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
         private List<ProfileFeatureDTO> backFeatureList;
     }
 
@@ -186,4 +192,16 @@ public class ProfileResponse {
         @JsonProperty("front_features")
         private List<ProfileFeatureDTO> frontFeature;
     }
+
+    @Builder
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SearchProfileListDTO{
+        @JsonProperty("profiles")
+        private List<SearchProfileDTO> profileList;
+
+        @JsonProperty("not_found_serial_numbers")
+        private List<Integer> notFoundSerialNumberList;
+    }
 }
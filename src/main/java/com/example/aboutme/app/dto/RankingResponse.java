@@ -0,0 +1,55 @@
+package com.example.aboutme.app.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+public class RankingResponse {
+
+    @Builder
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RankingDTO {
+        @JsonProperty("spaces")
+        private List<SpaceRankDTO> spaceRankList;
+        @JsonProperty("profiles")
+        private List<ProfileRankDTO> profileRankList;
+    }
+
+    @Builder
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SpaceRankDTO {
+        @JsonProperty("rank")
+        private int rank;
+        @JsonProperty("space_id")
+        private Long spaceId;
+        @JsonProperty("nickname")
+        private String nickname;
+        // 아지트에 추가한 멤버 수
+        @JsonProperty("save_count")
+        private long saveCount;
+    }
+
+    @Builder
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ProfileRankDTO {
+        @JsonProperty("rank")
+        private int rank;
+        @JsonProperty("profile_id")
+        private Long profileId;
+        @JsonProperty("serial_number")
+        private int serialNumber;
+        // 보관함에 추가한 멤버 수
+        @JsonProperty("save_count")
+        private long saveCount;
+    }
+}
@@ -1,9 +1,9 @@
 package com.example.aboutme.app.dto;
 
 import com.example.aboutme.domain.Member;
-import com.example.aboutme.domain.Plan;
 import com.example.aboutme.domain.SpaceImage;
 import com.example.aboutme.domain.constant.Mood;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.*;
 
 import java.util.List;
@@ -31,7 +31,10 @@ public class SpaceResponse {
         private Mood mood;
         private String musicUrl;
         private String statusMessage;
+        private Long viewCount;
+        @JsonInclude(JsonInclude.Include.NON_NULL)
         private List<String> spaceImageList;
+        @JsonInclude(JsonInclude.Include.NON_NULL)
         private List<PlanResponse.planDTO> planList;
     }
 
@@ -47,7 +50,7 @@ public class SpaceResponse {
         private String musicUrl;
         private String statusMessage;
         private List<String> spaceImageList;
-        private List<Plan> planList;
+        private List<PlanResponse.planDTO> planList;
     }
 
     @Data
@@ -59,5 +62,36 @@ public class SpaceResponse {
         private String nickname;
         private Integer characterType;
         private Integer roomType;
+        private Long viewCount;
+    }
+
+    @Builder
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DiscoverSpaceDTO {
+        private Long spaceId;
+        private String nickname;
+        private Integer characterType;
+        private Integer roomType;
+        private Mood mood;
+    }
+
+    @Builder
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DiscoverPageDTO {
+        private List<DiscoverSpaceDTO> spaceList;
+        // 다음 페이지 요청 시 cursor 로 넘기는 값 (마지막 페이지면 null)
+        private Long nextCursor;
+    }
+
+    @Builder
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ExploreDTO {
+        private List<DiscoverSpaceDTO> spaceList;
     }
 }
@@ -1,5 +1,6 @@
 package com.example.aboutme.aws.s3;
 
+import com.amazonaws.SdkClientException;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.*;
 import com.amazonaws.util.IOUtils;
@@ -10,12 +11,14 @@ import java.util.UUID;
 import com.example.aboutme.apiPayload.code.status.ErrorStatus;
 import com.example.aboutme.apiPayload.exception.GeneralException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 
+@Slf4j
 @RequiredArgsConstructor
 @Service
 public class S3Service {
@@ -72,6 +75,19 @@ public class S3Service {
     }
 
 
+    /**
+     * 업로드된 파일 삭제 (실패해도 예외를 던지지 않는다)
+     * @param fileUrl uploadFile 이 돌려준 URL
+     */
+    public void deleteFile(String fileUrl) {
+        String fileName = fileUrl.substring(fileUrl.lastIndexOf('/') + 1);
+        try {
+            amazonS3.deleteObject(bucket, fileName);
+        } catch (SdkClientException e) {
+            log.warn("S3 파일 삭제 실패: {} ({})", fileName, e.getMessage());
+        }
+    }
+
     public byte[] download(String fileKey) {
         try (S3Object s3Object = amazonS3.getObject(bucket, fileKey);
              S3ObjectInputStream stream = s3Object.getObjectContent()) {
@@ -0,0 +1,31 @@
+package com.example.aboutme.config.cache;
+
+import com.example.aboutme.app.dto.CacheResponse;
+import com.example.aboutme.converter.CacheConverter;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+
+/**
+ * [GET] /actuator/cachestatistics
+ * 2차 캐시 영역별 히트 통계 (다른 관리용 엔드포인트와 같이 management 포트로만 노출)
+ * hibernate-statistics.enabled 를 켠 경우에만 값이 쌓인다.
+ */
+@Component
+@Endpoint(id = "cachestatistics")
+@RequiredArgsConstructor
+public class CacheStatisticsEndpoint {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @ReadOperation
+    public CacheResponse.GetCacheStatisticsDTO cacheStatistics() {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+
+        return CacheConverter.toGetCacheStatisticsDTO(sessionFactory.getStatistics());
+    }
+}
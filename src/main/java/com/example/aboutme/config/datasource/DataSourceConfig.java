@@ -0,0 +1,78 @@
+package com.example.aboutme.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.listener.logging.SLF4JLogLevel;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.primary")
+    public HikariDataSource primaryDataSource() {
+        return DataSourceBuilder.create().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        return DataSourceBuilder.create().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") HikariDataSource replicaDataSource,
+                                               @Value("${replication.lag-query:SHOW SLAVE STATUS}") String lagQuery,
+                                               @Value("${replication.lag-column:Seconds_Behind_Master}") String lagColumn,
+                                               @Value("${replication.max-lag-seconds:5}") long maxLagSeconds) {
+        // primary 로 조용히 대신하지 않고, 설정하지 않았다는 것을 기동 로그에 남긴다
+        if (!StringUtils.hasText(replicaDataSource.getJdbcUrl())) {
+            log.warn("레플리카가 설정되지 않아(aws.db.replica.url) 모든 트랜잭션을 primary로 보냄");
+            return ReplicaLagMonitor.notConfigured();
+        }
+        return new ReplicaLagMonitor(new JdbcTemplate(replicaDataSource), lagQuery, lagColumn, maxLagSeconds);
+    }
+
+    @Bean
+    public DataSource routingDataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                        @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                        ReplicaLagMonitor replicaLagMonitor,
+                                        MeterRegistry meterRegistry) {
+        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(replicaLagMonitor, meterRegistry);
+        routingDataSource.setTargetDataSources(Map.of(
+                DataSourceType.PRIMARY, primaryDataSource,
+                DataSourceType.REPLICA, replicaDataSource));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        return routingDataSource;
+    }
+
+    /**
+     * 요청 단위 SQL 집계(SqlStatementCountFilter)와 느린 쿼리 로그를 위해 datasource-proxy 로 감싼다.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("routingDataSource") DataSource routingDataSource,
+                                 @Value("${sql-monitor.slow-query-ms:200}") long slowQueryMillis) {
+        return ProxyDataSourceBuilder.create(new LazyConnectionDataSourceProxy(routingDataSource))
+                .name("aboutme")
+                .countQuery()
+                .logSlowQueryBySlf4j(slowQueryMillis, TimeUnit.MILLISECONDS, SLF4JLogLevel.WARN)
+                .build();
+    }
+}
@@ -0,0 +1,5 @@
+package com.example.aboutme.config.datasource;
+
+public enum DataSourceType {
+    PRIMARY, REPLICA
+}
@@ -0,0 +1,105 @@
+package com.example.aboutme.config.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 레플리카 복제 지연 감시
+ * 지연이 허용치를 넘거나 상태 조회에 실패하면 읽기 트랜잭션을 primary로 돌린다.
+ * 기본 조회(SHOW SLAVE STATUS)는 레플리카 계정에 REPLICATION CLIENT 권한이 있어야 한다.
+ * (GRANT REPLICATION CLIENT ON *.* TO '계정'@'호스트') 권한이 없으면 레플리카를 쓰지 않고 이유를 남긴다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    // ER_SPECIFIC_ACCESS_DENIED_ERROR: SUPER, REPLICATION CLIENT 권한 없음
+    private static final int ACCESS_DENIED_ERROR_CODE = 1227;
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final String lagQuery;
+    private final String lagColumn;
+    private final long maxLagSeconds;
+
+    private volatile boolean replicaAvailable = false;
+    private volatile long lagSeconds = -1;
+    private volatile String lastFailure;
+
+    public ReplicaLagMonitor(JdbcTemplate replicaJdbcTemplate, String lagQuery, String lagColumn, long maxLagSeconds) {
+        this.replicaJdbcTemplate = replicaJdbcTemplate;
+        this.lagQuery = lagQuery;
+        this.lagColumn = lagColumn;
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    /**
+     * 레플리카를 설정하지 않은 경우 (모든 트랜잭션을 primary 로 보낸다)
+     */
+    public static ReplicaLagMonitor notConfigured() {
+        return new ReplicaLagMonitor(null, null, null, 0);
+    }
+
+    public boolean isReplicaConfigured() {
+        return replicaJdbcTemplate != null;
+    }
+
+    @Scheduled(fixedDelayString = "${replication.lag-check-interval:5000}")
+    public void check() {
+        if (!isReplicaConfigured()) {
+            return;
+        }
+
+        try {
+            List<Long> lags = replicaJdbcTemplate.query(lagQuery, (rs, rowNum) -> {
+                long lag = rs.getLong(lagColumn);
+                // 복제가 멈춘 경우 NULL이 내려온다
+                return rs.wasNull() ? null : lag;
+            });
+
+            // 결과가 없으면 복제 구성이 아닌 단일 DB(= primary와 동일)로 본다
+            Long lag = lags.isEmpty() ? Long.valueOf(0) : lags.get(0);
+            lastFailure = null;
+            update(lag);
+        } catch (Exception e) {
+            fail(e);
+            update(null);
+        }
+    }
+
+    // 같은 이유로 계속 실패하면 처음 한 번만 남긴다
+    private void fail(Exception e) {
+        Throwable cause = NestedExceptionUtils.getMostSpecificCause(e);
+        String failure = cause instanceof SQLException sqlException && sqlException.getErrorCode() == ACCESS_DENIED_ERROR_CODE
+                ? "레플리카 계정에 REPLICATION CLIENT 권한이 없음 (" + cause.getMessage() + ")"
+                : cause.getMessage();
+
+        if (!Objects.equals(failure, lastFailure)) {
+            log.warn("레플리카 지연 조회 실패, 읽기를 primary로 전환: {}", failure);
+        }
+        lastFailure = failure;
+    }
+
+    private void update(Long lag) {
+        boolean available = lag != null && lag <= maxLagSeconds;
+
+        if (available != replicaAvailable) {
+            log.info("레플리카 사용 여부 변경: available={}, lag={}", available, lag);
+        }
+
+        this.lagSeconds = lag == null ? -1 : lag;
+        this.replicaAvailable = available;
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    public long getLagSeconds() {
+        return lagSeconds;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.aboutme.config.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * readOnly 트랜잭션은 레플리카로, 나머지는 primary로 보낸다.
+ * 트랜잭션 속성이 정해진 뒤 커넥션을 얻어야 하므로 LazyConnectionDataSourceProxy로 감싸서 사용한다.
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final Counter primaryCounter;
+    private final Counter replicaCounter;
+    private final Counter fallbackCounter;
+
+    public ReplicationRoutingDataSource(ReplicaLagMonitor replicaLagMonitor, MeterRegistry meterRegistry) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.primaryCounter = meterRegistry.counter("datasource.routing", "target", "primary");
+        this.replicaCounter = meterRegistry.counter("datasource.routing", "target", "replica");
+        this.fallbackCounter = meterRegistry.counter("datasource.replica.fallback");
+        meterRegistry.gauge("datasource.replica.lag", replicaLagMonitor, ReplicaLagMonitor::getLagSeconds);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || !replicaLagMonitor.isReplicaConfigured()) {
+            primaryCounter.increment();
+            return DataSourceType.PRIMARY;
+        }
+
+        if (!replicaLagMonitor.isReplicaAvailable()) {
+            fallbackCounter.increment();
+            primaryCounter.increment();
+            return DataSourceType.PRIMARY;
+        }
+
+        replicaCounter.increment();
+        return DataSourceType.REPLICA;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.aboutme.config.idempotency;
+
+import com.example.aboutme.Login.jwt.TokenProvider;
+import com.example.aboutme.repository.MemberRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 모바일 재시도가 잦은 공유, 전송, 업로드 API 에만 Idempotency-Key 필터를 건다
+ */
+@Configuration
+public class IdempotencyConfig {
+
+    @Bean
+    public IdempotencyStore idempotencyStore(@Value("${idempotency.maximum-size:10000}") long maximumSize,
+                                             @Value("${idempotency.ttl-seconds:86400}") long ttlSeconds,
+                                             MeterRegistry meterRegistry) {
+        IdempotencyStore idempotencyStore = new IdempotencyStore(maximumSize, Duration.ofSeconds(ttlSeconds));
+        Gauge.builder("idempotency.store.size", idempotencyStore, IdempotencyStore::size)
+                .register(meterRegistry);
+        return idempotencyStore;
+    }
+
+    @Bean
+    public FilterRegistrationBean<IdempotencyKeyFilter> idempotencyKeyFilter(IdempotencyStore idempotencyStore,
+                                                                             ObjectMapper objectMapper,
+                                                                             MeterRegistry meterRegistry,
+                                                                             TokenProvider tokenProvider,
+                                                                             MemberRepository memberRepository,
+                                                                             @Value("${idempotency.url-patterns}") String[] urlPatterns) {
+        FilterRegistrationBean<IdempotencyKeyFilter> registration =
+                new FilterRegistrationBean<>(new IdempotencyKeyFilter(idempotencyStore, objectMapper, meterRegistry, tokenProvider, memberRepository));
+        registration.addUrlPatterns(urlPatterns);
+        return registration;
+    }
+}
@@ -0,0 +1,202 @@
+package com.example.aboutme.config.idempotency;
+
+import com.example.aboutme.Login.jwt.TokenDTO;
+import com.example.aboutme.Login.jwt.TokenProvider;
+import com.example.aboutme.apiPayload.ApiResponse;
+import com.example.aboutme.apiPayload.code.status.ErrorStatus;
+import com.example.aboutme.repository.MemberRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.Part;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Idempotency-Key 헤더가 있는 요청의 성공 응답을 저장해 두고,
+ * 같은 키로 다시 들어온 요청은 컨트롤러를 거치지 않고 저장된 응답을 돌려준다.
+ * 키는 멤버 식별자, 메서드, 경로와 함께 묶어 다른 사용자, 다른 API 와 섞이지 않게 하고,
+ * 같은 키로 본문이 다른 요청이 들어오면 저장된 응답 대신 422 로 거절한다.
+ */
+@Slf4j
+public class IdempotencyKeyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final TokenProvider tokenProvider;
+    private final MemberRepository memberRepository;
+
+    public IdempotencyKeyFilter(IdempotencyStore idempotencyStore, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                                TokenProvider tokenProvider, MemberRepository memberRepository) {
+        this.idempotencyStore = idempotencyStore;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.tokenProvider = tokenProvider;
+        this.memberRepository = memberRepository;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod()) || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        // 멤버를 알 수 없는 요청은 멱등 처리 없이 컨트롤러에서 인증 오류로 끝나게 둔다
+        Long memberId = memberId(request);
+        if (memberId == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        HttpServletRequest forwardedRequest = request;
+        String requestHash;
+        if (isMultipart(request)) {
+            requestHash = multipartHash(request);
+        } else if (isForm(request)) {
+            requestHash = formHash(request);
+        } else {
+            CachedBodyRequestWrapper cachedRequest = new CachedBodyRequestWrapper(request);
+            forwardedRequest = cachedRequest;
+            requestHash = bodyHash(request, cachedRequest.getBody());
+        }
+
+        String key = storeKey(memberId, request);
+        IdempotencyStore.StoredResponse reservation = IdempotencyStore.StoredResponse.inProgress(requestHash);
+        IdempotencyStore.StoredResponse stored = idempotencyStore.reserve(key, reservation);
+
+        if (stored != null && !stored.getRequestHash().equals(requestHash)) {
+            count("mismatch");
+            log.info("Idempotency-Key 재사용 거절: member={}, {} {}", memberId, request.getMethod(), request.getRequestURI());
+            writeError(response, ErrorStatus.IDEMPOTENCY_KEY_REUSED);
+            return;
+        }
+        if (stored != null && stored.isInProgress()) {
+            count("conflict");
+            writeError(response, ErrorStatus.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+            return;
+        }
+        if (stored != null) {
+            count("replayed");
+            log.info("Idempotency-Key 재요청: member={}, {} {}", memberId, request.getMethod(), request.getRequestURI());
+            replay(response, stored);
+            return;
+        }
+
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        boolean completed = false;
+        try {
+            filterChain.doFilter(forwardedRequest, responseWrapper);
+
+            if (HttpStatus.valueOf(responseWrapper.getStatus()).is2xxSuccessful()) {
+                idempotencyStore.complete(key, new IdempotencyStore.StoredResponse(requestHash,
+                        responseWrapper.getStatus(), responseWrapper.getContentType(), responseWrapper.getContentAsByteArray()));
+                completed = true;
+                count("stored");
+            }
+        } finally {
+            if (!completed) {
+                idempotencyStore.release(key, reservation);
+            }
+            responseWrapper.copyBodyToResponse();
+        }
+    }
+
+    private Long memberId(HttpServletRequest request) {
+        String token = request.getHeader("token");
+        if (token == null) {
+            return null;
+        }
+        try {
+            TokenDTO.tokenClaimsDTO tokenClaimsDTO = tokenProvider.getTokenInfoFromToken(token);
+            return memberRepository.findIdByEmailAndSocial(tokenClaimsDTO.getEmail(), tokenClaimsDTO.getSocial()).orElse(null);
+        } catch (RuntimeException e) {
+            log.debug("Idempotency-Key 멤버 식별 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private String storeKey(Long memberId, HttpServletRequest request) {
+        String source = memberId + "|" + request.getMethod() + "|" + request.getRequestURI()
+                + "|" + request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        return DigestUtils.md5DigestAsHex(source.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private boolean isMultipart(HttpServletRequest request) {
+        return request.getContentType() != null && request.getContentType().startsWith(MediaType.MULTIPART_FORM_DATA_VALUE);
+    }
+
+    private boolean isForm(HttpServletRequest request) {
+        return request.getContentType() != null && request.getContentType().startsWith(MediaType.APPLICATION_FORM_URLENCODED_VALUE);
+    }
+
+    private String bodyHash(HttpServletRequest request, byte[] body) {
+        byte[] query = String.valueOf(request.getQueryString()).getBytes(StandardCharsets.UTF_8);
+        byte[] source = Arrays.copyOf(query, query.length + 1 + body.length);
+        source[query.length] = '|';
+        System.arraycopy(body, 0, source, query.length + 1, body.length);
+        return DigestUtils.md5DigestAsHex(source);
+    }
+
+    private String formHash(HttpServletRequest request) {
+        StringBuilder source = new StringBuilder();
+        for (Map.Entry<String, String[]> parameter : new TreeMap<>(request.getParameterMap()).entrySet()) {
+            source.append(parameter.getKey()).append('=').append(Arrays.toString(parameter.getValue())).append('&');
+        }
+        return DigestUtils.md5DigestAsHex(source.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 업로드 파일은 메모리에 올리지 않고 파트별로 스트림 해시를 구해 합친다
+     */
+    private String multipartHash(HttpServletRequest request) throws IOException, ServletException {
+        StringBuilder source = new StringBuilder(String.valueOf(request.getQueryString()));
+        for (Part part : request.getParts()) {
+            try (InputStream inputStream = part.getInputStream()) {
+                source.append('|').append(part.getName()).append('=').append(DigestUtils.md5DigestAsHex(inputStream));
+            }
+        }
+        return DigestUtils.md5DigestAsHex(source.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void replay(HttpServletResponse response, IdempotencyStore.StoredResponse stored) throws IOException {
+        response.setStatus(stored.getStatus());
+        if (stored.getContentType() != null) {
+            response.setContentType(stored.getContentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(stored.getBody().length);
+        response.getOutputStream().write(stored.getBody());
+    }
+
+    private void writeError(HttpServletResponse response, ErrorStatus errorStatus) throws IOException {
+        response.setStatus(errorStatus.getHttpStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(),
+                ApiResponse.onFailure(errorStatus.getCode(), errorStatus.getMessage(), null));
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("idempotency.requests", "result", result).increment();
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.aboutme.config.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Idempotency-Key 별 응답 저장소 (최대 개수, TTL 제한)
+ * 처리 중인 키는 요청 본문 해시만 담은 항목으로 선점해 같은 키의 동시 재시도를 막는다.
+ */
+public class IdempotencyStore {
+
+    private final Cache<String, StoredResponse> cache;
+
+    public IdempotencyStore(long maximumSize, Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * 키 선점
+     * @param key 요청 키
+     * @param reservation 처리 중 표시 (StoredResponse.inProgress)
+     * @return 이미 있던 응답 (처음이면 null, 처리 중이면 isInProgress)
+     */
+    public StoredResponse reserve(String key, StoredResponse reservation) {
+        return cache.asMap().putIfAbsent(key, reservation);
+    }
+
+    public void complete(String key, StoredResponse response) {
+        cache.put(key, response);
+    }
+
+    // 실패한 요청은 저장하지 않고 다시 시도할 수 있게 풀어준다
+    public void release(String key, StoredResponse reservation) {
+        cache.asMap().remove(key, reservation);
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class StoredResponse {
+        private final String requestHash;
+        private final int status;
+        private final String contentType;
+        private final byte[] body;
+
+        public static StoredResponse inProgress(String requestHash) {
+            return new StoredResponse(requestHash, 0, null, new byte[0]);
+        }
+
+        public boolean isInProgress() {
+            return status == 0;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.aboutme.config.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서비스 메서드, S3 호출 소요 시간 측정
+ * 컨트롤러(http.server.requests), 리포지토리(spring.data.repository.invocations),
+ * OAuth 호출(http.client.requests)은 Spring Boot 기본 계측을 사용한다.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class MethodTimerAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(public * com.example.aboutme.service..*Impl.*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record("service.invocations", joinPoint);
+    }
+
+    @Around("execution(public * com.example.aboutme.aws.s3.S3Service.*(..))")
+    public Object timeS3(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record("s3.requests", joinPoint);
+    }
+
+    private Object record(String name, ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(name)
+                    .tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.aboutme.config.ratelimit;
+
+import com.example.aboutme.Login.jwt.TokenDTO;
+import com.example.aboutme.Login.jwt.TokenProvider;
+import com.example.aboutme.apiPayload.ApiResponse;
+import com.example.aboutme.apiPayload.code.status.ErrorStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 멤버별 토큰 버킷 요청 제한
+ * 규칙에 걸린 엔드포인트만 검사하고, 버킷이 비면 429 와 Retry-After 를 돌려준다.
+ * 멤버는 token 헤더의 클레임(이메일, 소셜)으로 구분하며 DB 는 조회하지 않는다.
+ */
+@Slf4j
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private final Map<String, String> ruleNameByEndpoint = new HashMap<>();
+    private final Map<String, RateLimitProperties.Rule> rules;
+    private final TokenProvider tokenProvider;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    // 오래 쓰지 않은 버킷은 가득 찬 상태와 같으므로 버려도 된다
+    private final Cache<String, TokenBucket> buckets = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterAccess(Duration.ofMinutes(10))
+            .build();
+
+    public RateLimitInterceptor(RateLimitProperties properties, TokenProvider tokenProvider,
+                                ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.rules = properties.getRules();
+        this.tokenProvider = tokenProvider;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+
+        rules.forEach((ruleName, rule) ->
+                rule.getEndpoints().forEach(endpoint -> ruleNameByEndpoint.put(endpoint.trim(), ruleName)));
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String ruleName = pattern != null ? ruleNameByEndpoint.get(request.getMethod() + " " + pattern) : null;
+        if (ruleName == null) {
+            return true;
+        }
+
+        RateLimitProperties.Rule rule = rules.get(ruleName);
+        TokenBucket bucket = buckets.get(ruleName + ":" + identity(request),
+                key -> new TokenBucket(rule.getCapacity(), rule.getRefillPerSecond(), System.nanoTime()));
+
+        long waitNanos = bucket.tryConsume(System.nanoTime());
+        if (waitNanos == 0) {
+            return true;
+        }
+
+        long retryAfterSeconds = Math.max(1, (long) Math.ceil(waitNanos / (double) TimeUnit.SECONDS.toNanos(1)));
+        meterRegistry.counter("ratelimit.rejected", "rule", ruleName, "uri", pattern.toString()).increment();
+        log.info("요청 제한: rule={}, {} {}, retryAfter={}s", ruleName, request.getMethod(), pattern, retryAfterSeconds);
+
+        ErrorStatus errorStatus = ErrorStatus._TOO_MANY_REQUESTS;
+        response.setStatus(errorStatus.getHttpStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(),
+                ApiResponse.onFailure(errorStatus.getCode(), errorStatus.getMessage(), null));
+        return false;
+    }
+
+    /**
+     * 토큰이 없거나 잘못된 요청은 IP 단위로 묶는다
+     */
+    private String identity(HttpServletRequest request) {
+        String token = request.getHeader("token");
+        if (token != null) {
+            try {
+                TokenDTO.tokenClaimsDTO tokenClaimsDTO = tokenProvider.getTokenInfoFromToken(token);
+                return tokenClaimsDTO.getSocial() + ":" + tokenClaimsDTO.getEmail();
+            } catch (RuntimeException e) {
+                log.debug("요청 제한 식별 실패, IP 기준 적용: {}", e.getMessage());
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
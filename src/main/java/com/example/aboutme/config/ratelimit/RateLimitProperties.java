@@ -0,0 +1,36 @@
+package com.example.aboutme.config.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * rate-limit 설정 (규칙 이름 -> 버킷 크기, 초당 충전량, 적용 엔드포인트)
+ */
+@Getter
+@Setter
+@ConfigurationProperties("rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    private Map<String, Rule> rules = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Rule {
+        // 한 번에 몰아서 보낼 수 있는 요청 수
+        private long capacity;
+
+        // 초당 다시 채워지는 요청 수
+        private double refillPerSecond;
+
+        // "GET /myspaces/search" 형식 (경로는 컨트롤러 매핑 패턴 그대로)
+        private List<String> endpoints = new ArrayList<>();
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.aboutme.config.ratelimit;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 락 없는 토큰 버킷
+ * 남은 토큰과 마지막 충전 시각을 불변 상태로 묶어 CAS 로 교체한다.
+ */
+public class TokenBucket {
+
+    private final double capacity;
+    private final double refillPerNanos;
+    private final AtomicReference<State> state;
+
+    public TokenBucket(long capacity, double refillPerSecond, long nowNanos) {
+        this.capacity = capacity;
+        this.refillPerNanos = refillPerSecond / 1_000_000_000d;
+        this.state = new AtomicReference<>(new State(capacity, nowNanos));
+    }
+
+    /**
+     * 토큰 하나 사용
+     * @param nowNanos 현재 시각 (System.nanoTime)
+     * @return 0 이면 통과, 아니면 토큰 하나가 찰 때까지 남은 나노초
+     */
+    public long tryConsume(long nowNanos) {
+        while (true) {
+            State current = state.get();
+            long refilledAt = Math.max(current.refilledAt, nowNanos);
+            double tokens = Math.min(capacity, current.tokens + (refilledAt - current.refilledAt) * refillPerNanos);
+
+            if (tokens < 1) {
+                return (long) Math.ceil((1 - tokens) / refillPerNanos);
+            }
+            if (state.compareAndSet(current, new State(tokens - 1, refilledAt))) {
+                return 0;
+            }
+        }
+    }
+
+    private static final class State {
+        private final double tokens;
+        private final long refilledAt;
+
+        private State(double tokens, long refilledAt) {
+            this.tokens = tokens;
+            this.refilledAt = refilledAt;
+        }
+    }
+}
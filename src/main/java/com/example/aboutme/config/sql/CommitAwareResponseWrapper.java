@@ -0,0 +1,155 @@
+package com.example.aboutme.config.sql;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * 응답이 커밋되기 직전(본문 첫 쓰기, flush, sendError, sendRedirect)에 한 번 콜백을 실행한다.
+ * 본문은 버퍼링하지 않고 그대로 내보낸다.
+ */
+class CommitAwareResponseWrapper extends HttpServletResponseWrapper {
+
+    private final Runnable beforeCommit;
+    private boolean notified;
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    CommitAwareResponseWrapper(HttpServletResponse response, Runnable beforeCommit) {
+        super(response);
+        this.beforeCommit = beforeCommit;
+    }
+
+    /**
+     * 본문 없이 끝난 응답(304 등)은 필터가 체인을 마친 뒤 직접 호출한다.
+     */
+    void beforeCommit() {
+        if (!notified && !isCommitted()) {
+            notified = true;
+            beforeCommit.run();
+        }
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (outputStream == null) {
+            outputStream = new NotifyingOutputStream(super.getOutputStream());
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            writer = new NotifyingWriter(super.getWriter());
+        }
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        beforeCommit();
+        super.flushBuffer();
+    }
+
+    @Override
+    public void sendError(int sc) throws IOException {
+        beforeCommit();
+        super.sendError(sc);
+    }
+
+    @Override
+    public void sendError(int sc, String msg) throws IOException {
+        beforeCommit();
+        super.sendError(sc, msg);
+    }
+
+    @Override
+    public void sendRedirect(String location) throws IOException {
+        beforeCommit();
+        super.sendRedirect(location);
+    }
+
+    private class NotifyingOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+
+        NotifyingOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            beforeCommit();
+            delegate.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            beforeCommit();
+            delegate.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            beforeCommit();
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            beforeCommit();
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+
+    private class NotifyingWriter extends PrintWriter {
+
+        NotifyingWriter(PrintWriter delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public void write(int c) {
+            beforeCommit();
+            super.write(c);
+        }
+
+        @Override
+        public void write(char[] buf, int off, int len) {
+            beforeCommit();
+            super.write(buf, off, len);
+        }
+
+        @Override
+        public void write(String s, int off, int len) {
+            beforeCommit();
+            super.write(s, off, len);
+        }
+
+        @Override
+        public void flush() {
+            beforeCommit();
+            super.flush();
+        }
+
+        @Override
+        public void close() {
+            beforeCommit();
+            super.close();
+        }
+    }
+}
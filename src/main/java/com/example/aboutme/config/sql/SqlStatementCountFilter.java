@@ -0,0 +1,108 @@
+package com.example.aboutme.config.sql;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.QueryCountHolder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 단위 SQL 실행 횟수, DB 소요 시간 집계
+ * 응답 헤더와 메트릭으로 남기고, 예산을 넘긴 요청은 경고 로그를 남긴다.
+ */
+@Slf4j
+@Component
+public class SqlStatementCountFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENT_COUNT_HEADER = "X-Sql-Statement-Count";
+    public static final String STATEMENT_TIME_HEADER = "X-Sql-Time-Ms";
+
+    private final MeterRegistry meterRegistry;
+    private final int statementBudget;
+    private final long slowRequestMillis;
+    private final boolean exposeHeaders;
+
+    public SqlStatementCountFilter(MeterRegistry meterRegistry,
+                                   @Value("${sql-monitor.statement-budget:20}") int statementBudget,
+                                   @Value("${sql-monitor.slow-request-ms:500}") long slowRequestMillis,
+                                   @Value("${sql-monitor.expose-headers:false}") boolean exposeHeaders) {
+        this.meterRegistry = meterRegistry;
+        this.statementBudget = statementBudget;
+        this.slowRequestMillis = slowRequestMillis;
+        this.exposeHeaders = exposeHeaders;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryCountHolder.clear();
+        long start = System.nanoTime();
+
+        // 헤더는 커밋 직전까지의 집계로 붙이고 본문은 버퍼링하지 않는다
+        CommitAwareResponseWrapper responseWrapper = exposeHeaders
+                ? new CommitAwareResponseWrapper(response, () -> writeHeaders(response, QueryCountHolder.getGrandTotal()))
+                : null;
+
+        try {
+            filterChain.doFilter(request, responseWrapper != null ? responseWrapper : response);
+            if (responseWrapper != null) {
+                responseWrapper.beforeCommit();
+            }
+        } finally {
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            QueryCount queryCount = QueryCountHolder.getGrandTotal();
+            QueryCountHolder.clear();
+
+            record(request, queryCount, elapsedMillis);
+        }
+    }
+
+    private void writeHeaders(HttpServletResponse response, QueryCount queryCount) {
+        response.setHeader(STATEMENT_COUNT_HEADER, String.valueOf(queryCount.getTotal()));
+        response.setHeader(STATEMENT_TIME_HEADER, String.valueOf(queryCount.getTime()));
+    }
+
+    private void record(HttpServletRequest request, QueryCount queryCount, long elapsedMillis) {
+        int statements = queryCount.getTotal();
+        long dbMillis = queryCount.getTime();
+        String uri = uriTemplate(request);
+
+        DistributionSummary.builder("http.server.sql.statements")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(statements);
+
+        Timer.builder("http.server.sql.time")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(dbMillis, TimeUnit.MILLISECONDS);
+
+        if (statements > statementBudget || elapsedMillis > slowRequestMillis) {
+            log.warn("SQL 예산 초과 요청: {} {} statements={} (select={}, insert={}, update={}, delete={}), dbTime={}ms, elapsed={}ms",
+                    request.getMethod(), uri, statements, queryCount.getSelect(), queryCount.getInsert(),
+                    queryCount.getUpdate(), queryCount.getDelete(), dbMillis, elapsedMillis);
+        }
+    }
+
+    /**
+     * 메트릭 태그 폭증을 막기 위해 경로 변수는 템플릿 그대로 사용
+     */
+    private String uriTemplate(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.aboutme.converter;
+
+import com.example.aboutme.app.dto.CacheResponse;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class CacheConverter {
+
+    public static CacheResponse.CacheRegionDTO toCacheRegionDTO(String region, CacheRegionStatistics regionStatistics){
+        long hitCount = regionStatistics.getHitCount();
+        long missCount = regionStatistics.getMissCount();
+        long lookupCount = hitCount + missCount;
+
+        return CacheResponse.CacheRegionDTO.builder()
+                .region(region)
+                .hitCount(hitCount)
+                .missCount(missCount)
+                .putCount(regionStatistics.getPutCount())
+                .hitRatio(lookupCount == 0 ? 0 : (double) hitCount / lookupCount)
+                .elementCount(regionStatistics.getElementCountInMemory())
+                .build();
+    }
+
+    public static CacheResponse.GetCacheStatisticsDTO toGetCacheStatisticsDTO(Statistics statistics){
+        List<CacheResponse.CacheRegionDTO> regionList = Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(region -> toCacheRegionDTO(region, statistics.getDomainDataRegionStatistics(region)))
+                .collect(Collectors.toList());
+
+        return CacheResponse.GetCacheStatisticsDTO.builder()
+                .statisticsEnabled(statistics.isStatisticsEnabled())
+                .hitCount(statistics.getSecondLevelCacheHitCount())
+                .missCount(statistics.getSecondLevelCacheMissCount())
+                .putCount(statistics.getSecondLevelCachePutCount())
+                .regionList(regionList)
+                .build();
+    }
+}
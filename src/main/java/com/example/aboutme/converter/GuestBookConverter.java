@@ -0,0 +1,41 @@
+package com.example.aboutme.converter;
+
+import com.example.aboutme.app.dto.GuestBookResponse;
+import com.example.aboutme.domain.GuestBook;
+
+import java.util.List;
+
+public class GuestBookConverter {
+
+    public static GuestBookResponse.GuestBookDTO toGuestBookDTO(GuestBook guestBook) {
+        return GuestBookResponse.GuestBookDTO.builder()
+                .guestBookId(guestBook.getId())
+                .writerId(guestBook.getWriter().getId())
+                .content(guestBook.getContent())
+                .createdAt(guestBook.getCreatedAt())
+                .build();
+    }
+
+    public static GuestBookResponse.GuestBookPageDTO toGuestBookPageDTO(List<GuestBook> guestBookList, int size) {
+        List<GuestBookResponse.GuestBookDTO> guestBookDTOList = guestBookList.stream()
+                .map(GuestBookConverter::toGuestBookDTO)
+                .toList();
+
+        // 요청한 개수만큼 채워졌으면 마지막 id 부터 이어서 조회
+        Long nextCursor = guestBookDTOList.size() == size
+                ? guestBookDTOList.get(guestBookDTOList.size() - 1).getGuestBookId()
+                : null;
+
+        return GuestBookResponse.GuestBookPageDTO.builder()
+                .guestBookList(guestBookDTOList)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    public static GuestBookResponse.CreateResultDTO toCreateResultDTO(Long spaceId, String content) {
+        return GuestBookResponse.CreateResultDTO.builder()
+                .spaceId(spaceId)
+                .content(content)
+                .build();
+    }
+}
@@ -17,7 +17,7 @@ public class MemberConverter {
                 .jwtAccessToken(token).build();
     }
 
-    public static MyPageResponse.GetMyPageDTO toGetMyPageDTO (String profileName, String spaceName, int profileSharedNum, int spaceSharedNum){
+    public static MyPageResponse.GetMyPageDTO toGetMyPageDTO (String profileName, String spaceName, int profileSharedNum, int spaceSharedNum, long profileVisitorNum){
         MyPageResponse.MyPageInfo myPageInfo = MyPageResponse.MyPageInfo.builder()
                 .profileName(profileName)
                 .spaceName(spaceName)
@@ -26,6 +26,7 @@ public class MemberConverter {
         MyPageResponse.MyPageInsight myPageInsight = MyPageResponse.MyPageInsight.builder()
                 .profileSharedNum(profileSharedNum)
                 .spaceSharedNum(spaceSharedNum)
+                .profileVisitorNum(profileVisitorNum)
                 .build();
 
         return MyPageResponse.GetMyPageDTO.builder()
@@ -1,5 +1,6 @@
 package com.example.aboutme.converter;
 
+import com.example.aboutme.apiPayload.FieldSet;
 import com.example.aboutme.app.dto.MemberProfileResponse;
 import com.example.aboutme.domain.Member;
 import com.example.aboutme.domain.Profile;
@@ -35,7 +36,7 @@ public class MemberProfileConverter {
                         .build())
                 .build();
     }
-    public static MemberProfileResponse.favoriteDto toToggleFavorite(Boolean favorite) {
+    public static MemberProfileResponse.favoriteDto toFavoriteDTO(Boolean favorite) {
         return MemberProfileResponse.favoriteDto.builder()
                 .favorite(favorite)
                 .build();
@@ -57,20 +58,24 @@ public class MemberProfileConverter {
     }
 
     public static MemberProfileResponse.SearchMemberProfileListDTO toSearchMemberProfileListDTO(List<MemberProfile> memberProfileList){
+        return toSearchMemberProfileListDTO(memberProfileList, FieldSet.all());
+    }
+
+    public static MemberProfileResponse.SearchMemberProfileListDTO toSearchMemberProfileListDTO(List<MemberProfile> memberProfileList, FieldSet fieldSet){
         List<MemberProfileResponse.SearchMemberProfileDTO> memberProfileListDto =
                 memberProfileList.stream()
                         .map(memberProfile -> {
-                            String profileValue = memberProfile.getProfile().getProfileFeatureList().stream()
+                            String profileValue = fieldSet.includes("profileName") ? memberProfile.getProfile().getProfileFeatureList().stream()
                                     .filter(profileFeature -> "name".equals(profileFeature.getProfileKey()))
                                     .map(ProfileFeature::getProfileValue)
                                     .findFirst()
-                                    .orElse("");
+                                    .orElse("") : null;
 
                             return MemberProfileResponse.SearchMemberProfileDTO.builder()
                                     .profileId(memberProfile.getProfile().getId())
                                     .profileName(profileValue)
                                     .favorite(memberProfile.getFavorite())
-                                    .image(ProfileConverter.toProfileImageDTO(memberProfile.getProfile().getProfileImage()))
+                                    .image(fieldSet.includes("image") ? ProfileConverter.toProfileImageDTO(memberProfile.getProfile().getProfileImage()) : null)
                                     .build();
                         })
                         .sorted((profile1, profile2) -> Boolean.compare(profile2.getFavorite(), profile1.getFavorite())) // favorite 값에 따라 정렬
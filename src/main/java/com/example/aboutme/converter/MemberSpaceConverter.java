@@ -22,7 +22,7 @@ public class MemberSpaceConverter {
         return new MemberSpaceResponse.GetListDto(memberSpaceListDto);
     }
 
-    public static MemberSpaceResponse.favoriteDto toToggleFavorite(Boolean favorite) {
+    public static MemberSpaceResponse.favoriteDto toFavoriteDTO(Boolean favorite) {
         return MemberSpaceResponse.favoriteDto.builder()
                 .favorite(favorite)
                 .build();
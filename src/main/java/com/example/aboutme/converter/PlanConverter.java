@@ -4,18 +4,17 @@ import com.example.aboutme.app.dto.PlanRequest;
 import com.example.aboutme.app.dto.PlanResponse;
 import com.example.aboutme.domain.Plan;
 import com.example.aboutme.domain.Space;
-import org.joda.time.DateTime;
-import org.joda.time.LocalDateTime;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
 
 public class PlanConverter {
 
-    public static Plan toPlan(Space space, PlanRequest.CreatePlanDTO createPlanDTO) throws ParseException {
+    public static Plan toPlan(Space space, PlanRequest.CreatePlanDTO createPlanDTO) {
         return Plan.builder()
                 .content(createPlanDTO.getContent())
-                .date(new SimpleDateFormat("yyyy-MM-dd").parse(String.valueOf(DateTime.now())))
+                .date(createPlanDTO.getDate() != null ? createPlanDTO.getDate() : LocalDate.now())
                 .space(space)
                 .build();
     }
@@ -27,4 +26,22 @@ public class PlanConverter {
                 .build();
     }
 
+    public static List<PlanResponse.planDTO> toPlanDTOList(List<Plan> planList) {
+        return planList.stream()
+                .map(PlanConverter::toPlanDTO)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 한 페이지를 꽉 채웠으면 마지막 계획의 날짜와 식별자를 다음 페이지 시작점으로 넘긴다
+     */
+    public static PlanResponse.PlanPageDTO toPlanPageDTO(List<Plan> planList, int size) {
+        Plan last = planList.size() == size ? planList.get(planList.size() - 1) : null;
+
+        return PlanResponse.PlanPageDTO.builder()
+                .planList(toPlanDTOList(planList))
+                .nextFrom(last == null ? null : last.getDate())
+                .nextCursor(last == null ? null : last.getId())
+                .build();
+    }
 }
@@ -1,5 +1,6 @@
 package com.example.aboutme.converter;
 
+import com.example.aboutme.apiPayload.FieldSet;
 import com.example.aboutme.app.dto.ProfileResponse;
 import com.example.aboutme.domain.Profile;
 import com.example.aboutme.domain.ProfileFeature;
@@ -9,6 +10,9 @@ import com.example.aboutme.domain.constant.Side;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 public class ProfileConverter {
 
@@ -46,8 +50,12 @@ public class ProfileConverter {
     }
 
     public static ProfileResponse.GetProfileListDTO toGetProfileListDTO(List<Profile> profileList){
+        return toGetProfileListDTO(profileList, FieldSet.all());
+    }
+
+    public static ProfileResponse.GetProfileListDTO toGetProfileListDTO(List<Profile> profileList, FieldSet fieldSet){
         List<ProfileResponse.ProfileDTO> profileDTOList = profileList.stream()
-                .map(ProfileConverter::toProfileDTO)
+                .map(profile -> toProfileDTO(profile, fieldSet))
                 .toList();
 
         return ProfileResponse.GetProfileListDTO.builder()
@@ -56,20 +64,20 @@ public class ProfileConverter {
                 .build();
     }
 
-    private static ProfileResponse.ProfileDTO toProfileDTO(Profile profile){
+    private static ProfileResponse.ProfileDTO toProfileDTO(Profile profile, FieldSet fieldSet){
         return ProfileResponse.ProfileDTO.builder()
                 .id(profile.getId())
                 .serialNumber(profile.getSerialNumber())
                 .isDefault(profile.getIsDefault())
-                .profileImage(toProfileImageDTO(profile.getProfileImage())) // 아직 미설정
-                .frontFeatureList(profile.getProfileFeatureList().stream()
+                .profileImage(fieldSet.includes("profile_image") ? toProfileImageDTO(profile.getProfileImage()) : null)
+                .frontFeatureList(fieldSet.includes("front_features") ? profile.getProfileFeatureList().stream()
                         .filter(profileFeature -> profileFeature.getSide()== Side.FRONT)
                         .filter(profileFeature -> {
                             boolean isEmpty = (profileFeature.getProfileKey() == null && profileFeature.getProfileValue() == null);
                             return !isEmpty;
                         })
                         .map(ProfileConverter::toProfileFeatureDTO)
-                        .toList())
+                        .toList() : null)
                 .build();
     }
 
@@ -82,20 +90,24 @@ public class ProfileConverter {
     }
 
     public static ProfileResponse.GetMyProfileDTO toGetMyProfileDTO(Profile profile){
+        return toGetMyProfileDTO(profile, FieldSet.all());
+    }
+
+    public static ProfileResponse.GetMyProfileDTO toGetMyProfileDTO(Profile profile, FieldSet fieldSet){
 
         return ProfileResponse.GetMyProfileDTO.builder()
                 .profileId(profile.getId())
                 .serialNumber(profile.getSerialNumber())
                 .isDefault(profile.getIsDefault())
-                .profileImage(toProfileImageDTO(profile.getProfileImage()))
-                .frontFeatureList(profile.getProfileFeatureList().stream()
+                .profileImage(fieldSet.includes("profile_image") ? toProfileImageDTO(profile.getProfileImage()) : null)
+                .frontFeatureList(fieldSet.includes("front_features") ? profile.getProfileFeatureList().stream()
                         .filter(profileFeature -> profileFeature.getSide()== Side.FRONT)
                         .map(ProfileConverter::toProfileFeatureDTO)
-                        .toList())
-                .backFeatureList(profile.getProfileFeatureList().stream()
+                        .toList() : null)
+                .backFeatureList(fieldSet.includes("back_features") ? profile.getProfileFeatureList().stream()
                         .filter(profileFeature -> profileFeature.getSide()== Side.BACK)
                         .map(ProfileConverter::toProfileFeatureDTO)
-                        .toList())
+                        .toList() : null)
                 .build();
     }
 
@@ -140,4 +152,24 @@ public class ProfileConverter {
                         .toList())
                 .build();
     }
+
+    public static ProfileResponse.SearchProfileListDTO toSearchProfileListDTO(List<Integer> serialNumberList, List<Profile> profileList){
+        Map<Integer, Profile> profileMap = profileList.stream()
+                .collect(Collectors.toMap(Profile::getSerialNumber, Function.identity()));
+
+        // 요청한 순서대로 응답
+        List<Integer> distinctSerialNumberList = serialNumberList.stream()
+                .distinct()
+                .toList();
+
+        return ProfileResponse.SearchProfileListDTO.builder()
+                .profileList(distinctSerialNumberList.stream()
+                        .filter(profileMap::containsKey)
+                        .map(serialNumber -> toSearchProfile(profileMap.get(serialNumber)))
+                        .toList())
+                .notFoundSerialNumberList(distinctSerialNumberList.stream()
+                        .filter(serialNumber -> !profileMap.containsKey(serialNumber))
+                        .toList())
+                .build();
+    }
 }
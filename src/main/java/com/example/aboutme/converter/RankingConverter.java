@@ -0,0 +1,36 @@
+package com.example.aboutme.converter;
+
+import com.example.aboutme.app.dto.RankingResponse;
+import com.example.aboutme.domain.Profile;
+import com.example.aboutme.domain.Space;
+
+import java.util.List;
+
+public class RankingConverter {
+
+    public static RankingResponse.SpaceRankDTO toSpaceRankDTO(int rank, Space space, long saveCount) {
+        return RankingResponse.SpaceRankDTO.builder()
+                .rank(rank)
+                .spaceId(space.getId())
+                .nickname(space.getNickname())
+                .saveCount(saveCount)
+                .build();
+    }
+
+    public static RankingResponse.ProfileRankDTO toProfileRankDTO(int rank, Profile profile, long saveCount) {
+        return RankingResponse.ProfileRankDTO.builder()
+                .rank(rank)
+                .profileId(profile.getId())
+                .serialNumber(profile.getSerialNumber())
+                .saveCount(saveCount)
+                .build();
+    }
+
+    public static RankingResponse.RankingDTO toRankingDTO(List<RankingResponse.SpaceRankDTO> spaceRankList,
+                                                          List<RankingResponse.ProfileRankDTO> profileRankList) {
+        return RankingResponse.RankingDTO.builder()
+                .spaceRankList(spaceRankList)
+                .profileRankList(profileRankList)
+                .build();
+    }
+}
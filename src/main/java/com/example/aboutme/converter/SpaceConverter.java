@@ -1,5 +1,6 @@
 package com.example.aboutme.converter;
 
+import com.example.aboutme.apiPayload.FieldSet;
 import com.example.aboutme.app.dto.MemberSpaceResponse;
 import com.example.aboutme.app.dto.PlanResponse;
 import com.example.aboutme.app.dto.SpaceRequest;
@@ -37,17 +38,28 @@ public class SpaceConverter {
                 .build();
     }
 
-    public static SpaceResponse.ReadResultDTO toReadResultDTO(Space space) {
-        List<PlanResponse.planDTO> readPlanDTOList = new ArrayList<>();
-        List<String> readImageDTOList = new ArrayList<>();
+    public static SpaceResponse.ReadResultDTO toReadResultDTO(Space space, List<Plan> planList, long viewCount) {
+        return toReadResultDTO(space, planList, viewCount, FieldSet.all());
+    }
 
-        space.getPlanList().stream()
-                .map(PlanConverter::toPlanDTO)
-                .forEach(readPlanDTOList::add);
+    /**
+     * @param planList 응답에 담을 계획 (planList 를 요청하지 않았으면 null)
+     */
+    public static SpaceResponse.ReadResultDTO toReadResultDTO(Space space, List<Plan> planList, long viewCount, FieldSet fieldSet) {
+        List<PlanResponse.planDTO> readPlanDTOList = null;
+        List<String> readImageDTOList = null;
 
-        space.getSpaceImageList().stream()
-                .map(SpaceImage::getImage)
-                .forEach(readImageDTOList::add);
+        // 요청하지 않은 목록은 지연 로딩 자체를 하지 않는다
+        if (fieldSet.includes("planList")) {
+            readPlanDTOList = PlanConverter.toPlanDTOList(planList);
+        }
+
+        if (fieldSet.includes("spaceImageList")) {
+            readImageDTOList = new ArrayList<>();
+            space.getSpaceImageList().stream()
+                    .map(SpaceImage::getImage)
+                    .forEach(readImageDTOList::add);
+        }
 
         return SpaceResponse.ReadResultDTO.builder()
                 .nickname(space.getNickname())
@@ -56,18 +68,22 @@ public class SpaceConverter {
                 .mood(space.getMood())
                 .musicUrl(space.getMusicUrl())
                 .statusMessage(space.getStatusMessage())
+                .viewCount(viewCount)
                 .spaceImageList(readImageDTOList)
                 .planList(readPlanDTOList)
                 .build();
     }
 
-    public static SpaceResponse.UpdateResultDTO toUpdateResultDTO(Space space) {
-            List<String> readImageDTOList = new ArrayList<>();
+    public static SpaceResponse.UpdateResultDTO toUpdateResultDTO(Space space, List<Plan> planList) {
+        List<String> readImageDTOList = new ArrayList<>();
 
         space.getSpaceImageList().stream()
                 .map(SpaceImage::getImage)
                 .forEach(readImageDTOList::add);
 
+        // 엔티티를 그대로 직렬화하면 트랜잭션 밖에서 space 연관관계를 건드린다
+        List<PlanResponse.planDTO> readPlanDTOList = PlanConverter.toPlanDTOList(planList);
+
         return SpaceResponse.UpdateResultDTO.builder()
                 .nickname(space.getNickname())
                 .characterType(space.getCharacterType())
@@ -76,16 +92,43 @@ public class SpaceConverter {
                 .musicUrl(space.getMusicUrl())
                 .statusMessage(space.getStatusMessage())
                 .spaceImageList(readImageDTOList)
-                .planList(space.getPlanList())
+                .planList(readPlanDTOList)
                 .build();
     }
 
-    public static SpaceResponse.SearchResultDto toSearchResultDTO(Space space) {
+    public static SpaceResponse.SearchResultDto toSearchResultDTO(Space space, long viewCount) {
         return SpaceResponse.SearchResultDto.builder()
                         .spaceId(space.getId())
                         .nickname(space.getNickname())
                         .characterType(space.getCharacterType())
                         .roomType(space.getRoomType())
+                        .viewCount(viewCount)
                         .build();
     }
+
+    public static SpaceResponse.DiscoverPageDTO toDiscoverPageDTO(List<SpaceResponse.DiscoverSpaceDTO> spaceList, int size) {
+        // 한 페이지를 꽉 채웠을 때만 다음 페이지가 있을 수 있다
+        Long nextCursor = spaceList.size() == size ? spaceList.get(spaceList.size() - 1).getSpaceId() : null;
+
+        return SpaceResponse.DiscoverPageDTO.builder()
+                .spaceList(spaceList)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    public static SpaceResponse.DiscoverSpaceDTO toDiscoverSpaceDTO(Space space) {
+        return SpaceResponse.DiscoverSpaceDTO.builder()
+                .spaceId(space.getId())
+                .nickname(space.getNickname())
+                .characterType(space.getCharacterType())
+                .roomType(space.getRoomType())
+                .mood(space.getMood())
+                .build();
+    }
+
+    public static SpaceResponse.ExploreDTO toExploreDTO(List<SpaceResponse.DiscoverSpaceDTO> spaceList) {
+        return SpaceResponse.ExploreDTO.builder()
+                .spaceList(spaceList)
+                .build();
+    }
 }
@@ -3,12 +3,15 @@ package com.example.aboutme.domain;
 import com.example.aboutme.domain.common.BaseEntity;
 import com.example.aboutme.domain.constant.Social;
 import lombok.*;
+import org.hibernate.annotations.Where;
 
 import javax.persistence.*;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Where(clause = "deleted_at is null") // 탈퇴 처리된 멤버는 조회되지 않는다 (연관 데이터는 UnregisterJob 이 정리)
 @AllArgsConstructor
 @Getter
 @Builder
@@ -25,15 +28,31 @@ public class Member extends BaseEntity {
 
     private String jwtAccessToken;
 
+    // 내 마이프로필이 다른 멤버의 보관함에 저장된 횟수
+    private int profileSharedNum;
+
+    // 내 마이스페이스가 다른 멤버의 아지트에 저장된 횟수
+    private int spaceSharedNum;
+
+    // 탈퇴 시각 (정리 작업이 끝나면 행 자체가 삭제된다)
+    private LocalDateTime deletedAt;
+
     @OneToMany(mappedBy = "member", cascade = CascadeType.ALL)
     private List<Profile> profileList = new ArrayList<>();
 
-    @OneToOne(mappedBy = "member", cascade = CascadeType.ALL)
-    private Space space;
-
     @OneToMany(mappedBy = "writer", cascade = CascadeType.ALL)
     private List<GuestBook> guestBookList = new ArrayList<>();
 
     @OneToMany(mappedBy = "member", cascade = CascadeType.ALL)
     private List<Alarm> alarmsList = new ArrayList<>();
+
+    /**
+     * 탈퇴 처리
+     * 같은 이메일로 바로 재가입할 수 있도록 이메일과 토큰을 비운다.
+     */
+    public void markDeleted() {
+        this.deletedAt = LocalDateTime.now();
+        this.email = null;
+        this.jwtAccessToken = null;
+    }
 }
@@ -3,15 +3,15 @@ package com.example.aboutme.domain;
 import com.example.aboutme.domain.common.BaseEntity;
 import com.example.aboutme.domain.constant.Mood;
 import lombok.*;
-import org.joda.time.DateTime;
-import org.joda.time.LocalDateTime;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
-import java.util.ArrayList;
-import java.util.Date;
-import java.util.List;
+import java.time.LocalDate;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @AllArgsConstructor
 @Getter
 @Builder
@@ -23,8 +23,7 @@ public class Plan extends BaseEntity {
 
     private String content;
 
-    @Temporal(TemporalType.DATE)
-    private Date date;
+    private LocalDate date;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "space_id")
@@ -3,12 +3,16 @@ package com.example.aboutme.domain;
 import com.example.aboutme.domain.common.BaseEntity;
 import com.example.aboutme.domain.mapping.MemberProfile;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @AllArgsConstructor
 @Getter
 @Builder
@@ -25,10 +29,13 @@ public class Profile extends BaseEntity {
     @JoinColumn(name = "member_id")
     private Member member;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @OneToMany(mappedBy = "profile", cascade = CascadeType.ALL)
     private List<ProfileFeature> profileFeatureList = new ArrayList<>();
 
-    @OneToOne(mappedBy = "profile", cascade = CascadeType.ALL)
+    // 외래키를 프로필 쪽에 두어 지연 로딩되게 한다 (mappedBy 쪽 OneToOne 은 프록시를 만들 수 없다)
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL)
+    @JoinColumn(name = "profile_image_id")
     private ProfileImage profileImage;
     
     @OneToMany(mappedBy = "profile", cascade = CascadeType.ALL)
@@ -45,6 +52,10 @@ public class Profile extends BaseEntity {
         member.getProfileList().add(this);
     }
 
+    public void setProfileImage(ProfileImage profileImage){
+        this.profileImage = profileImage;
+    }
+
     public void setIsDefault(Boolean isDefault){
         this.isDefault = isDefault;
     }
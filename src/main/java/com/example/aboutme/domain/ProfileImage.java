@@ -3,10 +3,14 @@ package com.example.aboutme.domain;
 import com.example.aboutme.domain.common.BaseEntity;
 import com.example.aboutme.domain.constant.ProfileImageType;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @AllArgsConstructor
 @Getter
 @Builder
@@ -25,10 +29,6 @@ public class ProfileImage extends BaseEntity {
     @JoinColumn(name = "space_id")
     private Space space;
 
-    @OneToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "profile_id")
-    private Profile profile;
-
     public void update(ProfileImageType type){
         this.type = type;
         this.imageUrl = null;
@@ -0,0 +1,29 @@
+package com.example.aboutme.domain;
+
+import com.example.aboutme.domain.common.BaseEntity;
+import lombok.*;
+
+import javax.persistence.*;
+
+/**
+ * 프로필 고유 방문자 HyperLogLog 스케치
+ * 서버마다 메모리에 모은 스케치를 레지스터별 최댓값으로 합쳐서 저장한다.
+ */
+@Entity
+@Table(name = "profile_visitor_sketch")
+@AllArgsConstructor
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProfileVisitorSketch extends BaseEntity {
+
+    @Id
+    private Long profileId;
+
+    @Column(length = 2048, nullable = false)
+    private byte[] sketch;
+
+    public void updateSketch(byte[] sketch) {
+        this.sketch = sketch;
+    }
+}
@@ -4,6 +4,8 @@ import com.example.aboutme.domain.common.BaseEntity;
 import com.example.aboutme.domain.constant.Mood;
 import lombok.*;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 import javax.persistence.criteria.CriteriaBuilder;
@@ -12,6 +14,8 @@ import java.util.List;
 
 @Slf4j
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @AllArgsConstructor
 @Getter
 @Builder
@@ -38,9 +42,11 @@ public class Space extends BaseEntity {
     @JoinColumn(name = "member_id")
     private Member member;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @OneToMany(mappedBy = "space", cascade = CascadeType.ALL)
     private List<SpaceImage> spaceImageList = new ArrayList<>();
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @OneToMany(mappedBy = "space", cascade = CascadeType.ALL)
     private List<Plan> planList = new ArrayList<>();
 
@@ -0,0 +1,23 @@
+package com.example.aboutme.domain;
+
+import lombok.*;
+
+import javax.persistence.*;
+
+/**
+ * 스페이스 조회수
+ * 조회할 때마다 space 행을 갱신하지 않도록 별도 테이블에 두고, 메모리에 모은 증가분을 주기적으로 더한다.
+ */
+@Entity
+@Table(name = "space_view_count")
+@AllArgsConstructor
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SpaceViewCount {
+
+    @Id
+    private Long spaceId;
+
+    private long viewCount;
+}
@@ -0,0 +1,59 @@
+package com.example.aboutme.domain;
+
+import com.example.aboutme.domain.common.BaseEntity;
+import com.example.aboutme.domain.constant.UnregisterJobStatus;
+import lombok.*;
+
+import javax.persistence.*;
+
+/**
+ * 탈퇴한 멤버의 연관 데이터 정리 작업
+ * 단계(step)별로 나눠 삭제하며, 삭제한 행 수로 진행 상황을 남긴다.
+ */
+@Entity
+@AllArgsConstructor
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UnregisterJob extends BaseEntity {
+
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long memberId;
+
+    @Enumerated(EnumType.STRING)
+    private UnregisterJobStatus status;
+
+    // 작업을 선점한 서버
+    private String owner;
+
+    // 진행 중인 정리 단계
+    private String step;
+
+    private long deletedRows;
+
+    private int attempts;
+
+    private String lastError;
+
+    public void complete() {
+        this.status = UnregisterJobStatus.DONE;
+        this.step = null;
+        this.lastError = null;
+    }
+
+    /**
+     * 실패 처리 (단계마다 다시 실행해도 결과가 같으므로 처음부터 재시도한다)
+     * @param message 오류 메시지
+     * @param maxAttempts 최대 시도 횟수
+     */
+    public void fail(String message, int maxAttempts) {
+        this.status = attempts >= maxAttempts ? UnregisterJobStatus.FAILED : UnregisterJobStatus.PENDING;
+        this.lastError = message != null && message.length() > MAX_ERROR_LENGTH
+                ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
@@ -0,0 +1,5 @@
+package com.example.aboutme.domain.constant;
+
+public enum UnregisterJobStatus {
+    PENDING, RUNNING, DONE, FAILED;
+}
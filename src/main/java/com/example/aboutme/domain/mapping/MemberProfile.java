@@ -20,6 +20,10 @@ public class MemberProfile extends BaseEntity {
 
     private Boolean favorite;
 
+    // 낙관적 락 (즐겨찾기 변경은 단일 UPDATE 로 버전을 올린다)
+    @Version
+    private Long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id")
     private Member member;
@@ -27,8 +31,4 @@ public class MemberProfile extends BaseEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "profile_id")
     private Profile profile;
-
-    public void toggleFavorite() {
-        this.favorite = !this.favorite;
-    }
 }
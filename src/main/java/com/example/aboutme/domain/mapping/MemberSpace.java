@@ -27,8 +27,7 @@ public class MemberSpace extends BaseEntity {
 
     private boolean favorite;
 
-    // 즐겨찾기 토글 메서드
-    public void toggleFavorite() {
-        this.favorite = !this.favorite;
-    }
+    // 낙관적 락 (즐겨찾기 변경은 단일 UPDATE 로 버전을 올린다)
+    @Version
+    private Long version;
 }
@@ -4,12 +4,23 @@ import com.example.aboutme.domain.Alarm;
 import com.example.aboutme.domain.Member;
 import com.example.aboutme.domain.Profile;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface AlarmRepository extends JpaRepository<Alarm, Long> {
 
-    List<Alarm> findByMember(Member member);
+    /**
+     * 알림 목록 조회 (프로필, 스페이스 함께 조회)
+     * @param member 알림 받는 멤버
+     * @return 알림 목록
+     */
+    @Query("select a from Alarm a " +
+            "left join fetch a.profile " +
+            "left join fetch a.space " +
+            "where a.member = :member")
+    List<Alarm> findAllWithProfileByMember(@Param("member") Member member);
 
     Boolean existsByMemberAndProfile(Member member, Profile profile);
 }
@@ -0,0 +1,25 @@
+package com.example.aboutme.repository;
+
+import com.example.aboutme.domain.GuestBook;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface GuestBookRepository extends JpaRepository<GuestBook, Long> {
+
+    /**
+     * 스페이스 방명록 키셋 페이지 조회 (최신순)
+     * OFFSET 없이 (space_id, id) 인덱스를 cursor 위치부터 읽는다.
+     * @param spaceId 스페이스 식별자
+     * @param cursor 이전 페이지의 마지막 방명록 식별자 (첫 페이지는 Long.MAX_VALUE)
+     * @param pageable 페이지 크기
+     * @return 방명록 목록
+     */
+    @Query("select g from GuestBook g " +
+            "where g.space.id = :spaceId and g.id < :cursor " +
+            "order by g.id desc")
+    List<GuestBook> findPageBySpaceId(@Param("spaceId") Long spaceId, @Param("cursor") Long cursor, Pageable pageable);
+}
@@ -4,6 +4,7 @@ import com.example.aboutme.domain.Member;
 import com.example.aboutme.domain.Profile;
 import com.example.aboutme.domain.mapping.MemberProfile;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -12,6 +13,45 @@ import java.util.List;
 public interface MemberProfileRepository extends JpaRepository<MemberProfile, Long> {
 //    List<MemberProfile> findAllByMember(Member member);
 
+    /**
+     * 프로필 보관함 조회 (프로필, 프로필 이미지 함께 조회)
+     * @param member 보관함 주인
+     * @return 보관함 목록
+     */
+    @Query("select mp from MemberProfile mp " +
+            "join fetch mp.profile p " +
+            "left join fetch p.profileImage pi " +
+            "left join fetch pi.space " +
+            "where mp.member = :member")
+    List<MemberProfile> findAllWithProfileByMember(@Param("member") Member member);
+
+    /**
+     * 프로필 보관함 조회 (프로필, 프로필 특징, 프로필 이미지 함께 조회)
+     * @param member 보관함 주인
+     * @return 보관함 목록
+     */
+    @Query("select distinct mp from MemberProfile mp " +
+            "join fetch mp.profile p " +
+            "left join fetch p.profileFeatureList " +
+            "left join fetch p.profileImage pi " +
+            "left join fetch pi.space " +
+            "where mp.member = :member")
+    List<MemberProfile> findAllWithProfileFeaturesByMember(@Param("member") Member member);
+
+    /**
+     * 프로필 보관함 중 주어진 프로필만 조회 (프로필, 프로필 특징, 프로필 이미지 함께 조회)
+     * @param member 보관함 주인
+     * @param profileList 프로필 목록
+     * @return 보관함 목록
+     */
+    @Query("select distinct mp from MemberProfile mp " +
+            "join fetch mp.profile p " +
+            "left join fetch p.profileFeatureList " +
+            "left join fetch p.profileImage pi " +
+            "left join fetch pi.space " +
+            "where mp.member = :member and p in :profileList")
+    List<MemberProfile> findAllWithProfileFeaturesByMemberAndProfileIn(@Param("member") Member member, @Param("profileList") List<Profile> profileList);
+
     List<MemberProfile> findAllByMember(Member member);
 
 
@@ -21,7 +61,26 @@ public interface MemberProfileRepository extends JpaRepository<MemberProfile, Lo
   
     Boolean existsByMemberAndProfile(Member member, Profile profile);
 
-    List<MemberProfile> findByMemberAndProfileIn(Member member, List<Profile> profileList);
+    /**
+     * 보관함 즐겨찾기 설정 (조회 없이 단일 UPDATE)
+     * @param memberId 보관함 주인 식별자
+     * @param profileId 프로필 식별자
+     * @param favorite 즐겨찾기 여부
+     * @return 변경된 행 수 (0 이면 보관함에 없는 프로필)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update MemberProfile mp set mp.favorite = :favorite, mp.version = mp.version + 1 " +
+            "where mp.member.id = :memberId and mp.profile.id = :profileId")
+    int updateFavorite(@Param("memberId") Long memberId, @Param("profileId") Long profileId, @Param("favorite") Boolean favorite);
+
+    /**
+     * 프로필을 저장한 보관함 행 일괄 삭제 (프로필 삭제 전, 보관함 목록을 엔티티로 읽지 않는다)
+     * @param profileId 삭제하려는 프로필 식별자
+     * @return 삭제된 보관함 행 수
+     */
+    @Modifying
+    @Query("delete from MemberProfile mp where mp.profile.id = :profileId")
+    int deleteAllByProfileId(@Param("profileId") Long profileId);
 
     /**
      * 내 마이프로필 공유 현황 (내 마이프로필이 상대방의 보관함에 얼마나 저장되었는지)
@@ -1,10 +1,11 @@
 package com.example.aboutme.repository;
 
-import com.example.aboutme.app.dto.MyPageResponse;
 import com.example.aboutme.domain.Member;
 import com.example.aboutme.domain.constant.Social;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -13,4 +14,85 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     Optional<Member> findByEmail(String email);
     void deleteByEmail(String email);
     Boolean existsByEmailAndSocial(String email, Social social);
+
+    @Query("select m.id from Member m where m.email = :email and m.social = :social")
+    Optional<Long> findIdByEmailAndSocial(@Param("email") String email, @Param("social") Social social);
+
+    @Query("select max(m.id) from Member m")
+    Long findMaxId();
+
+    /**
+     * 마이페이지 한 행 조회
+     * 멤버의 공유 현황에 기본 프로필의 이름과 스페이스 닉네임을 서브쿼리로 붙여 한 번에 읽는다.
+     * @param email 멤버 이메일
+     * @param social 소셜 종류
+     * @return 마이페이지 행 (탈퇴했거나 없는 멤버면 비어 있음)
+     */
+    @Query(value = "select m.id as memberId, m.profile_shared_num as profileSharedNum, m.space_shared_num as spaceSharedNum, " +
+            "(select pf.profile_value from profile p join profile_feature pf on pf.profile_id = p.id " +
+            "where p.member_id = m.id and pf.profile_key = 'name' order by p.is_default desc, p.created_at asc limit 1) as profileName, " +
+            "(select s.nickname from space s where s.member_id = m.id) as spaceName " +
+            "from member m where m.email = :email and m.social = :social and m.deleted_at is null",
+            nativeQuery = true)
+    Optional<MyPageRow> findMyPageRow(@Param("email") String email, @Param("social") String social);
+
+    interface MyPageRow {
+        Long getMemberId();
+
+        int getProfileSharedNum();
+
+        int getSpaceSharedNum();
+
+        String getProfileName();
+
+        String getSpaceName();
+    }
+
+    /**
+     * 마이페이지 버전 (ETag 계산용)
+     * 공유 현황은 벌크 업데이트로 바뀌어 updated_at 이 갱신되지 않으므로 값 자체를 포함한다.
+     * 토큰의 이메일, 소셜로 바로 조회해 304 응답에는 이 쿼리 하나만 실행한다.
+     * @param email 멤버 이메일
+     * @param social 소셜 종류
+     * @return 버전 문자열 (탈퇴했거나 없는 멤버면 비어 있음)
+     */
+    @Query(value = "select concat_ws('|', m.id, m.profile_shared_num, m.space_shared_num, " +
+            "(select concat_ws('/', count(*), max(s.updated_at)) from space s where s.member_id = m.id), " +
+            "(select concat_ws('/', count(*), max(p.updated_at)) from profile p where p.member_id = m.id), " +
+            "(select concat_ws('/', count(*), max(pf.updated_at)) from profile_feature pf join profile p on pf.profile_id = p.id where p.member_id = m.id), " +
+            "(select concat_ws('/', count(*), max(vs.updated_at)) from profile_visitor_sketch vs join profile p on vs.profile_id = p.id where p.member_id = m.id)) " +
+            "from member m where m.email = :email and m.social = :social and m.deleted_at is null",
+            nativeQuery = true)
+    Optional<String> findMyPageVersionByEmailAndSocial(@Param("email") String email, @Param("social") String social);
+
+    /**
+     * 마이프로필 공유 현황 증감
+     * @param memberId 프로필 주인 식별자
+     * @param delta 증감량
+     */
+    @Modifying
+    @Query("update Member m set m.profileSharedNum = m.profileSharedNum + :delta where m.id = :memberId")
+    void addProfileSharedNum(@Param("memberId") Long memberId, @Param("delta") int delta);
+
+    /**
+     * 마이스페이스 공유 현황 증감
+     * @param memberId 스페이스 주인 식별자
+     * @param delta 증감량
+     */
+    @Modifying
+    @Query("update Member m set m.spaceSharedNum = m.spaceSharedNum + :delta where m.id = :memberId")
+    void addSpaceSharedNum(@Param("memberId") Long memberId, @Param("delta") int delta);
+
+    /**
+     * 공유 현황 재계산 (MemberProfile, MemberSpace 기준)
+     * @param fromId 시작 멤버 식별자 (포함)
+     * @param toId 끝 멤버 식별자 (포함)
+     * @return 갱신된 멤버 수
+     */
+    @Modifying
+    @Query(value = "update member m set " +
+            "m.profile_shared_num = (select count(*) from member_profile mp join profile p on mp.profile_id = p.id where p.member_id = m.id), " +
+            "m.space_shared_num = (select count(*) from member_space ms join space s on ms.space_id = s.id where s.member_id = m.id) " +
+            "where m.id between :fromId and :toId", nativeQuery = true)
+    int reconcileSharedNum(@Param("fromId") Long fromId, @Param("toId") Long toId);
 }
@@ -5,6 +5,7 @@ import com.example.aboutme.domain.Member;
 import com.example.aboutme.domain.Space;
 import com.example.aboutme.domain.mapping.MemberSpace;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -13,7 +14,32 @@ import java.util.List;
 public interface MemberSpaceRepository extends JpaRepository<MemberSpace, Long> {
     MemberSpace findByMemberAndSpace(Member member, Space space);
 
-    List<MemberSpace> findByMemberAndSpace_NicknameContaining(Member member, String keyword);
+    // 아지트에 추가한 스페이스 식별자 (uk_member_space_member_space 인덱스만 읽는다)
+    @Query("select ms.space.id from MemberSpace ms where ms.member.id = :memberId")
+    List<Long> findSpaceIdsByMemberId(@Param("memberId") Long memberId);
+
+    /**
+     * 아지트 내 스페이스 검색 (스페이스 함께 조회)
+     * @param member 아지트 주인
+     * @param keyword 검색어(스페이스 닉네임)
+     * @return 아지트 목록
+     */
+    @Query("select ms from MemberSpace ms " +
+            "join fetch ms.space s " +
+            "where ms.member = :member and s.nickname like concat('%', :keyword, '%')")
+    List<MemberSpace> findAllWithSpaceByMemberAndNicknameContaining(@Param("member") Member member, @Param("keyword") String keyword);
+
+    /**
+     * 아지트 즐겨찾기 설정 (조회 없이 단일 UPDATE)
+     * @param memberId 아지트 주인 식별자
+     * @param spaceId 스페이스 식별자
+     * @param favorite 즐겨찾기 여부
+     * @return 변경된 행 수 (0 이면 아지트에 없는 스페이스)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update MemberSpace ms set ms.favorite = :favorite, ms.version = ms.version + 1 " +
+            "where ms.member.id = :memberId and ms.space.id = :spaceId")
+    int updateFavorite(@Param("memberId") Long memberId, @Param("spaceId") Long spaceId, @Param("favorite") boolean favorite);
 
     /**
      * 내 마이스페이스 공유 현황 (내 마이스페이스가 상대방의 보관함에 얼마나 저장되었는지)
@@ -1,12 +1,33 @@
 package com.example.aboutme.repository;
 
-import com.example.aboutme.domain.Member;
 import com.example.aboutme.domain.Plan;
-import com.example.aboutme.domain.Space;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-import java.util.Optional;
+import java.time.LocalDate;
+import java.util.List;
 
 public interface PlanRepository extends JpaRepository<Plan, Long> {
 
+    /**
+     * 스페이스의 기간 내 계획을 날짜, 식별자 순으로 한 페이지 조회 (idx_plan_space_date)
+     * from 날짜의 계획 중에서는 cursor 보다 큰 식별자부터 읽는다.
+     * @param spaceId 스페이스 식별자
+     * @param from 시작 날짜 (포함)
+     * @param to 끝 날짜 (포함)
+     * @param cursor 이전 페이지 마지막 계획 식별자 (첫 페이지는 0)
+     * @param pageable 페이지 크기
+     * @return 계획 목록
+     */
+    @Query("select p from Plan p " +
+            "where p.space.id = :spaceId and p.date between :from and :to " +
+            "and (p.date > :from or p.id > :cursor) " +
+            "order by p.date asc, p.id asc")
+    List<Plan> findPageBySpaceIdAndDateBetween(@Param("spaceId") Long spaceId,
+                                               @Param("from") LocalDate from,
+                                               @Param("to") LocalDate to,
+                                               @Param("cursor") Long cursor,
+                                               Pageable pageable);
 }
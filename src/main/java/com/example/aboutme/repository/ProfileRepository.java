@@ -22,4 +22,107 @@ public interface ProfileRepository extends JpaRepository<Profile, Long> {
     boolean existsBySerialNumber(int serialNumber);
 
     Optional<Profile> findByMemberAndId(Member member, Long id);
+
+    /**
+     * 멤버의 마이프로필 목록 조회 (이미지 함께 조회)
+     * @param member 멤버
+     * @return 대표 프로필이 먼저 오는 마이프로필 목록
+     */
+    @Query("select p from Profile p " +
+            "left join fetch p.profileImage pi " +
+            "left join fetch pi.space " +
+            "where p.member = :member " +
+            "order by p.isDefault desc")
+    List<Profile> findAllWithImageByMemberOrderByIsDefaultDesc(@Param("member") Member member);
+
+    /**
+     * 멤버의 마이프로필 목록 조회 (특징, 이미지 함께 조회)
+     * @param member 멤버
+     * @return 대표 프로필이 먼저 오는 마이프로필 목록
+     */
+    @Query("select distinct p from Profile p " +
+            "left join fetch p.profileFeatureList " +
+            "left join fetch p.profileImage pi " +
+            "left join fetch pi.space " +
+            "where p.member = :member " +
+            "order by p.isDefault desc")
+    List<Profile> findAllWithFeaturesByMemberOrderByIsDefaultDesc(@Param("member") Member member);
+
+    /**
+     * 마이프로필 단건 조회 (이미지 함께 조회)
+     * @param id 프로필 식별자
+     * @return 마이프로필
+     */
+    @Query("select p from Profile p " +
+            "left join fetch p.profileImage pi " +
+            "left join fetch pi.space " +
+            "where p.id = :id")
+    Optional<Profile> findWithImageById(@Param("id") Long id);
+
+    /**
+     * 마이프로필 단건 조회 (특징, 이미지 함께 조회)
+     * @param id 프로필 식별자
+     * @return 마이프로필
+     */
+    @Query("select distinct p from Profile p " +
+            "left join fetch p.profileFeatureList " +
+            "left join fetch p.profileImage pi " +
+            "left join fetch pi.space " +
+            "where p.id = :id")
+    Optional<Profile> findWithFeaturesById(@Param("id") Long id);
+
+    /**
+     * 시리얼 넘버로 프로필 조회 (특징, 이미지 함께 조회)
+     * @param serialNumber 시리얼 넘버
+     * @return 프로필
+     */
+    @Query("select distinct p from Profile p " +
+            "left join fetch p.profileFeatureList " +
+            "left join fetch p.profileImage pi " +
+            "left join fetch pi.space " +
+            "where p.serialNumber = :serialNumber")
+    Optional<Profile> findWithFeaturesBySerialNumber(@Param("serialNumber") int serialNumber);
+
+    /**
+     * 멤버의 마이프로필 목록 버전 (ETag 계산용)
+     * 프로필, 특징, 이미지의 개수와 마지막 수정 시각만 조회한다.
+     * 캐릭터 이미지는 연결된 스페이스의 캐릭터를 응답하므로 스페이스 수정 시각도 포함한다.
+     * 토큰의 이메일, 소셜로 바로 조회해 304 응답에는 이 쿼리 하나만 실행한다.
+     * @param email 멤버 이메일
+     * @param social 소셜 종류
+     * @return 버전 문자열 (없는 멤버면 비어 있음)
+     */
+    @Query(value = "select concat_ws('|', m.id, " +
+            "(select concat_ws('/', count(*), max(p.updated_at)) from profile p where p.member_id = m.id), " +
+            "(select concat_ws('/', count(*), max(pf.updated_at)) from profile_feature pf join profile p on pf.profile_id = p.id where p.member_id = m.id), " +
+            "(select concat_ws('/', count(*), max(pi.updated_at)) from profile_image pi join profile p on p.profile_image_id = pi.id where p.member_id = m.id), " +
+            "(select concat_ws('/', count(*), max(s.updated_at)) from space s join profile_image pi on pi.space_id = s.id join profile p on p.profile_image_id = pi.id where p.member_id = m.id)) " +
+            "from member m where m.email = :email and m.social = :social",
+            nativeQuery = true)
+    Optional<String> findVersionByEmailAndSocial(@Param("email") String email, @Param("social") String social);
+
+    /**
+     * 마이프로필 단건 버전 (ETag 계산용)
+     * @param profileId 프로필 식별자
+     * @return 버전 문자열
+     */
+    @Query(value = "select concat_ws('|', :profileId, " +
+            "(select concat_ws('/', count(*), max(p.updated_at)) from profile p where p.id = :profileId), " +
+            "(select concat_ws('/', count(*), max(pf.updated_at)) from profile_feature pf where pf.profile_id = :profileId), " +
+            "(select concat_ws('/', count(*), max(pi.updated_at)) from profile_image pi join profile p on p.profile_image_id = pi.id where p.id = :profileId), " +
+            "(select concat_ws('/', count(*), max(s.updated_at)) from space s join profile_image pi on pi.space_id = s.id join profile p on p.profile_image_id = pi.id where p.id = :profileId))",
+            nativeQuery = true)
+    String findVersionById(@Param("profileId") Long profileId);
+
+    /**
+     * 시리얼 넘버 목록으로 프로필 일괄 조회 (특징, 이미지 함께 조회)
+     * @param serialNumberList 시리얼 넘버 목록
+     * @return 존재하는 프로필 목록
+     */
+    @Query("select distinct p from Profile p " +
+            "left join fetch p.profileFeatureList " +
+            "left join fetch p.profileImage pi " +
+            "left join fetch pi.space " +
+            "where p.serialNumber in :serialNumberList")
+    List<Profile> findAllWithFeaturesBySerialNumberIn(@Param("serialNumberList") List<Integer> serialNumberList);
 }
@@ -0,0 +1,32 @@
+package com.example.aboutme.repository;
+
+import com.example.aboutme.domain.ProfileVisitorSketch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
+
+public interface ProfileVisitorSketchRepository extends JpaRepository<ProfileVisitorSketch, Long> {
+
+    /**
+     * 여러 서버가 같은 스케치를 동시에 읽고 덮어써서 레지스터가 유실되지 않도록 행을 잠그고 읽는다
+     * @param profileIds 프로필 식별자 목록
+     * @return 저장된 스케치 목록
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from ProfileVisitorSketch s where s.profileId in :profileIds")
+    List<ProfileVisitorSketch> findAllForUpdateByProfileIdIn(@Param("profileIds") Collection<Long> profileIds);
+
+    /**
+     * 멤버의 프로필 식별자와 저장된 스케치 (스케치가 아직 없는 프로필은 null)
+     * @param memberId 멤버 식별자
+     * @return [프로필 식별자, 스케치] 목록
+     */
+    @Query("select p.id, s.sketch from Profile p left join ProfileVisitorSketch s on s.profileId = p.id " +
+            "where p.member.id = :memberId")
+    List<Object[]> findSketchesByMemberId(@Param("memberId") Long memberId);
+}
@@ -1,10 +1,15 @@
 package com.example.aboutme.repository;
 
+import com.example.aboutme.app.dto.SpaceResponse;
 import com.example.aboutme.domain.Member;
 import com.example.aboutme.domain.Space;
+import com.example.aboutme.domain.constant.Mood;
 import com.example.aboutme.domain.mapping.MemberSpace;
 import com.example.aboutme.service.MemberService.MemberService;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -16,4 +21,48 @@ public interface SpaceRepository extends JpaRepository<Space, Long> {
     Optional<Space> findByMember(Member member);
 
     Optional<Space> findByNickname(String keyword);
+
+    @Query("select s.id from Space s where s.member.id = :memberId")
+    Optional<Long> findIdByMemberId(@Param("memberId") Long memberId);
+
+    /**
+     * 멤버의 마이스페이스 버전 (ETag 계산용)
+     * 스페이스, 이미지, 계획의 개수와 마지막 수정 시각, 저장된 조회수만 조회한다.
+     * 토큰의 이메일, 소셜로 바로 조회해 304 응답에는 이 쿼리 하나만 실행한다.
+     * @param email 멤버 이메일
+     * @param social 소셜 종류
+     * @return 버전 문자열 (없는 멤버면 비어 있음)
+     */
+    @Query(value = "select concat_ws('|', m.id, " +
+            "(select concat_ws('/', count(*), max(s.updated_at)) from space s where s.member_id = m.id), " +
+            "(select concat_ws('/', count(*), max(si.updated_at)) from space_image si join space s on si.space_id = s.id where s.member_id = m.id), " +
+            "(select concat_ws('/', count(*), max(pl.updated_at)) from plan pl join space s on pl.space_id = s.id where s.member_id = m.id), " +
+            "(select coalesce(max(v.view_count), 0) from space_view_count v join space s on v.space_id = s.id where s.member_id = m.id)) " +
+            "from member m where m.email = :email and m.social = :social",
+            nativeQuery = true)
+    Optional<String> findVersionByEmailAndSocial(@Param("email") String email, @Param("social") String social);
+
+    /**
+     * 스페이스 둘러보기 (id 내림차순 키셋 페이지)
+     * 필터 조합마다 idx_space_discover_* 인덱스의 컬럼만 읽도록 응답 컬럼만 조회한다.
+     * @param cursor 이전 페이지 마지막 스페이스 식별자 (첫 페이지는 Long.MAX_VALUE)
+     * @param pageable 페이지 크기
+     * @return 스페이스 목록
+     */
+    @Query("select new com.example.aboutme.app.dto.SpaceResponse$DiscoverSpaceDTO(s.id, s.nickname, s.characterType, s.roomType, s.mood) " +
+            "from Space s where s.id < :cursor order by s.id desc")
+    List<SpaceResponse.DiscoverSpaceDTO> findDiscoverPage(@Param("cursor") Long cursor, Pageable pageable);
+
+    @Query("select new com.example.aboutme.app.dto.SpaceResponse$DiscoverSpaceDTO(s.id, s.nickname, s.characterType, s.roomType, s.mood) " +
+            "from Space s where s.mood = :mood and s.id < :cursor order by s.id desc")
+    List<SpaceResponse.DiscoverSpaceDTO> findDiscoverPageByMood(@Param("mood") Mood mood, @Param("cursor") Long cursor, Pageable pageable);
+
+    @Query("select new com.example.aboutme.app.dto.SpaceResponse$DiscoverSpaceDTO(s.id, s.nickname, s.characterType, s.roomType, s.mood) " +
+            "from Space s where s.roomType = :roomType and s.id < :cursor order by s.id desc")
+    List<SpaceResponse.DiscoverSpaceDTO> findDiscoverPageByRoomType(@Param("roomType") Integer roomType, @Param("cursor") Long cursor, Pageable pageable);
+
+    @Query("select new com.example.aboutme.app.dto.SpaceResponse$DiscoverSpaceDTO(s.id, s.nickname, s.characterType, s.roomType, s.mood) " +
+            "from Space s where s.mood = :mood and s.roomType = :roomType and s.id < :cursor order by s.id desc")
+    List<SpaceResponse.DiscoverSpaceDTO> findDiscoverPageByMoodAndRoomType(@Param("mood") Mood mood, @Param("roomType") Integer roomType,
+                                                                          @Param("cursor") Long cursor, Pageable pageable);
 }
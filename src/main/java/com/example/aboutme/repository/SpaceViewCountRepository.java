@@ -0,0 +1,14 @@
+package com.example.aboutme.repository;
+
+import com.example.aboutme.domain.SpaceViewCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface SpaceViewCountRepository extends JpaRepository<SpaceViewCount, Long> {
+
+    @Query("select v.viewCount from SpaceViewCount v where v.spaceId = :spaceId")
+    Optional<Long> findViewCountBySpaceId(@Param("spaceId") Long spaceId);
+}
@@ -0,0 +1,61 @@
+package com.example.aboutme.repository;
+
+import com.example.aboutme.domain.UnregisterJob;
+import com.example.aboutme.domain.constant.UnregisterJobStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface UnregisterJobRepository extends JpaRepository<UnregisterJob, Long> {
+
+    /**
+     * 실행할 작업 조회 (staleBefore 이후 진행 기록이 없는 RUNNING 은 정리 도중 서버가 내려간 경우)
+     * @param pending 대기 상태
+     * @param running 실행 상태
+     * @param staleBefore 이 시각 이전에 마지막으로 진행된 RUNNING 작업만 포함
+     * @param pageable 조회 개수
+     * @return 오래된 순 작업 식별자 목록
+     */
+    @Query("select j.id from UnregisterJob j " +
+            "where j.status = :pending or (j.status = :running and j.updatedAt < :staleBefore) " +
+            "order by j.id asc")
+    List<Long> findClaimableIds(@Param("pending") UnregisterJobStatus pending,
+                                @Param("running") UnregisterJobStatus running,
+                                @Param("staleBefore") LocalDateTime staleBefore,
+                                Pageable pageable);
+
+    /**
+     * 작업 선점 (조건부 UPDATE 라 여러 서버가 같은 작업을 동시에 가져가지 않는다)
+     * @param id 작업 식별자
+     * @param owner 선점하는 서버 식별자
+     * @param now 선점 시각
+     * @param staleBefore 이 시각 이전에 마지막으로 진행된 RUNNING 작업은 다시 가져갈 수 있다
+     * @return 선점했으면 1, 다른 서버가 먼저 가져갔으면 0
+     */
+    @Modifying
+    @Query("update UnregisterJob j set j.status = :running, j.owner = :owner, j.attempts = j.attempts + 1, j.updatedAt = :now " +
+            "where j.id = :id and (j.status = :pending or (j.status = :running and j.updatedAt < :staleBefore))")
+    int claim(@Param("id") Long id,
+              @Param("owner") String owner,
+              @Param("pending") UnregisterJobStatus pending,
+              @Param("running") UnregisterJobStatus running,
+              @Param("now") LocalDateTime now,
+              @Param("staleBefore") LocalDateTime staleBefore);
+
+    /**
+     * 정리 진행 상황 기록 (청크마다 호출, updatedAt 은 선점 유지 시각으로 쓴다)
+     * @param id 작업 식별자
+     * @param step 진행 중인 단계
+     * @param deletedRows 이번 청크에서 삭제한 행 수
+     * @param now 기록 시각
+     */
+    @Modifying
+    @Query("update UnregisterJob j set j.step = :step, j.deletedRows = j.deletedRows + :deletedRows, j.updatedAt = :now where j.id = :id")
+    void addProgress(@Param("id") Long id, @Param("step") String step, @Param("deletedRows") long deletedRows,
+                     @Param("now") LocalDateTime now);
+}
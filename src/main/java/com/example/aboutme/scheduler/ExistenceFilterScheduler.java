@@ -0,0 +1,30 @@
+package com.example.aboutme.scheduler;
+
+import com.example.aboutme.service.ExistenceFilterService.ExistenceFilterService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시리얼 넘버, 스페이스 닉네임 존재 여부 필터 갱신
+ * 기동 시와 rebuild-cron 마다 새로 만들어 삭제된 값을 비우고, 다른 서버에서 생긴 값은 sync-interval 마다 넣는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ExistenceFilterScheduler {
+
+    private final ExistenceFilterService existenceFilterService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${existence-filter.rebuild-cron:0 0 * * * *}")
+    public void rebuild() {
+        existenceFilterService.rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${existence-filter.sync-interval:1000}")
+    public void syncRecent() {
+        existenceFilterService.syncRecent();
+    }
+}
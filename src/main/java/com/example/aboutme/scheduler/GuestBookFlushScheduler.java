@@ -0,0 +1,28 @@
+package com.example.aboutme.scheduler;
+
+import com.example.aboutme.service.GuestBookService.GuestBookService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 방명록 쓰기 큐 저장
+ * 작성 요청은 큐에만 넣고 응답하므로, 짧은 주기로 모아서 여러 행 INSERT 로 저장한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GuestBookFlushScheduler {
+
+    private final GuestBookService guestBookService;
+
+    @Scheduled(fixedDelayString = "${guestbook.flush-interval:200}")
+    public void flush() {
+        int flushed = guestBookService.flushPendingWrites();
+
+        if (flushed > 0) {
+            log.debug("방명록 저장: count={}", flushed);
+        }
+    }
+}
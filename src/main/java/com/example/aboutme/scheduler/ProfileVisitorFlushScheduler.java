@@ -0,0 +1,28 @@
+package com.example.aboutme.scheduler;
+
+import com.example.aboutme.service.ProfileVisitorService.ProfileVisitorService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 프로필 방문자 스케치 저장
+ * 방문은 이 서버의 메모리 스케치에만 기록하므로, 주기적으로 저장된 스케치와 합친다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProfileVisitorFlushScheduler {
+
+    private final ProfileVisitorService profileVisitorService;
+
+    @Scheduled(fixedDelayString = "${profile-visitor.flush-interval:10000}")
+    public void flush() {
+        int flushed = profileVisitorService.flushPendingSketches();
+
+        if (flushed > 0) {
+            log.debug("프로필 방문자 스케치 저장: profiles={}", flushed);
+        }
+    }
+}
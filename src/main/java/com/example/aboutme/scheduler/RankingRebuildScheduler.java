@@ -0,0 +1,25 @@
+package com.example.aboutme.scheduler;
+
+import com.example.aboutme.service.RankingService.RankingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 저장 순위 재계산
+ * 기동 시 DB 에서 저장 수를 읽어 순위를 채우고, 이 서버가 보지 못한 증감을 주기적으로 반영한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RankingRebuildScheduler {
+
+    private final RankingService rankingService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${ranking.rebuild-cron:0 */10 * * * *}")
+    public void rebuild() {
+        rankingService.rebuild();
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.aboutme.scheduler;
+
+import com.example.aboutme.service.MemberService.MemberService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 멤버별 공유 현황(profileSharedNum, spaceSharedNum) 재계산
+ * 보관함/아지트 추가·삭제 시 증감으로 유지되는 값이 어긋난 경우 바로잡는다.
+ * 전체 멤버를 훑으므로 새벽 시간대(reconcile-cron)에만 돌고, 기동 시에는 reconcile-on-startup 을 켠 경우에만 돈다.
+ * (컬럼을 추가할 때의 초기값은 V12 마이그레이션이 채운다)
+ */
+@Slf4j
+@Component
+public class SharedNumReconcileScheduler {
+
+    private static final long CHUNK_SIZE = 1000;
+
+    private final MemberService memberService;
+    private final boolean reconcileOnStartup;
+
+    public SharedNumReconcileScheduler(MemberService memberService,
+                                       @Value("${member.shared-num.reconcile-on-startup:false}") boolean reconcileOnStartup) {
+        this.memberService = memberService;
+        this.reconcileOnStartup = reconcileOnStartup;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        if (reconcileOnStartup) {
+            reconcile();
+        }
+    }
+
+    @Scheduled(cron = "${member.shared-num.reconcile-cron:0 0 4 * * *}")
+    public void reconcile() {
+        long maxId = memberService.findMaxMemberId();
+        int updated = 0;
+
+        for (long fromId = 1; fromId <= maxId; fromId += CHUNK_SIZE) {
+            updated += memberService.reconcileSharedNum(fromId, fromId + CHUNK_SIZE - 1);
+        }
+
+        log.info("공유 현황 재계산 완료: members={}", updated);
+    }
+}
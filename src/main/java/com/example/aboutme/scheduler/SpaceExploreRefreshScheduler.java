@@ -0,0 +1,25 @@
+package com.example.aboutme.scheduler;
+
+import com.example.aboutme.service.SpaceExploreService.SpaceExploreService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 무작위 둘러보기 스페이스 목록 갱신
+ * 기동 시 스페이스 식별자를 읽어 채우고, 이 서버가 보지 못한 생성·삭제를 주기적으로 반영한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SpaceExploreRefreshScheduler {
+
+    private final SpaceExploreService spaceExploreService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${space-explore.refresh-interval:300000}", initialDelayString = "${space-explore.refresh-interval:300000}")
+    public void refresh() {
+        spaceExploreService.refresh();
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.aboutme.scheduler;
+
+import com.example.aboutme.service.SpaceViewService.SpaceViewService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스페이스 조회수 저장
+ * 조회는 메모리의 카운터만 올리므로, 주기적으로 모인 증가분을 DB 에 더한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpaceViewFlushScheduler {
+
+    private final SpaceViewService spaceViewService;
+
+    @Scheduled(fixedDelayString = "${space-view.flush-interval:5000}")
+    public void flush() {
+        int flushed = spaceViewService.flushPendingViews();
+
+        if (flushed > 0) {
+            log.debug("스페이스 조회수 저장: spaces={}", flushed);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.aboutme.scheduler;
+
+import com.example.aboutme.service.UnregisterJobService.UnregisterJobService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 탈퇴한 멤버의 연관 데이터 정리
+ * 탈퇴 요청은 멤버만 탈퇴 처리하고 바로 응답하며, 나머지는 여기서 나눠서 삭제한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnregisterJobScheduler {
+
+    private final UnregisterJobService unregisterJobService;
+
+    @Scheduled(fixedDelayString = "${member.unregister.purge-interval:10000}")
+    public void purge() {
+        int completed = unregisterJobService.purgePendingJobs();
+
+        if (completed > 0) {
+            log.info("탈퇴 정리 작업 완료: jobs={}", completed);
+        }
+    }
+}
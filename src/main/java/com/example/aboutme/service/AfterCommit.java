@@ -0,0 +1,28 @@
+package com.example.aboutme.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 메모리에 들고 있는 집계·색인을 DB 변경과 맞추기 위한 커밋 후 콜백
+ * 롤백된 변경이 반영되지 않도록 트랜잭션 안이면 커밋된 뒤에, 밖이면 바로 실행한다.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
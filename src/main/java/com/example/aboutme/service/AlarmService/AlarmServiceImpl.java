@@ -2,6 +2,7 @@ package com.example.aboutme.service.AlarmService;
 import com.example.aboutme.apiPayload.code.status.ErrorStatus;
 import com.example.aboutme.apiPayload.exception.GeneralException;
 import com.example.aboutme.app.dto.AlarmRequest;
+import com.example.aboutme.app.dto.AlarmResponse;
 import com.example.aboutme.converter.AlarmConverter;
 import com.example.aboutme.domain.Alarm;
 import com.example.aboutme.domain.Member;
@@ -44,11 +45,11 @@ public class AlarmServiceImpl implements AlarmService{
      * 프로필 알람 데이터 조회
      * @param memberId 멤버 식별자
      */
-    public List<Alarm> getAlarmList(Long memberId) {
+    public AlarmResponse.GetAlarmListDTO getAlarmList(Long memberId) {
 
         Member member = memberService.findMember(memberId);
 
-        return alarmRepository.findByMember(member);
+        return AlarmConverter.toGetAlarmListDTO(alarmRepository.findAllWithProfileByMember(member));
     }
 
     /**
@@ -63,7 +64,8 @@ public class AlarmServiceImpl implements AlarmService{
                 () -> new GeneralException(ErrorStatus.ALARM_NOT_FOUND)
         );
 
-        if (!alarm.getMember().equals(member)) {
+        // member 는 호출한 쪽의 영속성 컨텍스트에서 조회된 엔티티라 식별자로 비교한다
+        if (!alarm.getMember().getId().equals(member.getId())) {
             throw new GeneralException(ErrorStatus.ALARM_NOT_MINE);
         }
 
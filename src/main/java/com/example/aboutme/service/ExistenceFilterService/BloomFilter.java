@@ -0,0 +1,101 @@
+package com.example.aboutme.service.ExistenceFilterService;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 존재 여부 확인용 Bloom filter
+ * mightContain 이 false 면 넣은 적이 없는 값이고, true 면 넣은 적이 있거나 오탐이다.
+ * 비트는 AtomicLongArray 에 CAS 로 켜므로 잠금 없이 여러 스레드가 동시에 넣고 확인할 수 있다.
+ * 지울 수 없으므로 삭제된 값은 새로 만든 필터로 바꿀 때까지 오탐으로 남는다.
+ */
+final class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashCount;
+    private final AtomicLong setBits = new AtomicLong();
+
+    private BloomFilter(long bitSize, int hashCount) {
+        this.words = new AtomicLongArray((int) ((bitSize + Long.SIZE - 1) / Long.SIZE));
+        this.bitSize = bitSize;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * expectedInsertions 개를 넣었을 때 오탐률이 fpp 가 되도록 비트 수와 해시 수를 정한다
+     * m = -n ln p / (ln 2)^2, k = m / n ln 2
+     */
+    static BloomFilter create(long expectedInsertions, double fpp) {
+        long n = Math.max(1, expectedInsertions);
+        long bitSize = Math.max(Long.SIZE, (long) Math.ceil(-n * Math.log(fpp) / (Math.log(2) * Math.log(2))));
+        int hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+        return new BloomFilter(bitSize, hashCount);
+    }
+
+    void add(long hash) {
+        // 64비트 해시 하나를 둘로 나눠 k 개의 위치를 만든다 (Kirsch-Mitzenmacher)
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            setBit(position(hash1, hash2, i));
+        }
+    }
+
+    boolean mightContain(long hash) {
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long position = position(hash1, hash2, i);
+            if ((words.get((int) (position >>> 6)) & (1L << position)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 지금 켜진 비트 비율로 계산한 오탐률 (넣은 값이 expectedInsertions 를 넘으면 설정값보다 커진다)
+     */
+    double expectedFpp() {
+        return Math.pow((double) setBits.get() / bitSize, hashCount);
+    }
+
+    static long hash(long value) {
+        // 연속된 시리얼 넘버도 고르게 퍼지도록 섞는다 (MurmurHash3 fmix64)
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    static long hash(String value) {
+        // FNV-1a 로 문자를 모두 반영한 뒤 섞는다
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash(hash);
+    }
+
+    private long position(int hash1, int hash2, int i) {
+        long combined = hash1 + (long) i * hash2;
+        return Math.floorMod(combined, bitSize);
+    }
+
+    private void setBit(long position) {
+        int index = (int) (position >>> 6);
+        long mask = 1L << position;
+        long current;
+        do {
+            current = words.get(index);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!words.compareAndSet(index, current, current | mask));
+        setBits.incrementAndGet();
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.aboutme.service.ExistenceFilterService;
+
+public interface ExistenceFilterService {
+    boolean existsSerialNumber(int serialNumber);
+
+    boolean existsSpaceNickname(String nickname);
+
+    void recordSerialNumber(int serialNumber);
+
+    void recordSpaceNickname(String nickname);
+
+    void rebuild();
+
+    void syncRecent();
+}
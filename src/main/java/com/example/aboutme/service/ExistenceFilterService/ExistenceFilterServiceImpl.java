@@ -0,0 +1,256 @@
+package com.example.aboutme.service.ExistenceFilterService;
+
+import com.example.aboutme.repository.ProfileRepository;
+import com.example.aboutme.repository.SpaceRepository;
+import com.example.aboutme.service.AfterCommit;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.ToIntFunction;
+import java.util.regex.Pattern;
+
+/**
+ * 시리얼 넘버, 스페이스 닉네임 존재 여부
+ * 잘못 입력한 시리얼 넘버처럼 대부분 없는 값을 묻는 확인은 Bloom filter 에서 없다고 나오면 DB 를 조회하지 않고 끝낸다.
+ * 필터에 있다고 나오면 오탐일 수 있으므로 DB 로 확인하며, 결과별 횟수를 existence.filter.checks 로 남긴다.
+ * 삭제는 필터에서 지울 수 없어 rebuild 가 주기적으로 새 필터로 바꿀 때까지 오탐으로 남고,
+ * 다른 서버에서 생긴 값은 syncRecent 가 updated_at 으로 최근 변경분만 읽어 넣는다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class ExistenceFilterServiceImpl implements ExistenceFilterService {
+
+    private static final String SERIAL_NUMBER_SQL = "select serial_number from profile where serial_number is not null";
+    private static final String SPACE_NICKNAME_SQL = "select nickname from space where nickname is not null";
+    private static final String RECENT_CONDITION = " and updated_at >= ?";
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private final ProfileRepository profileRepository;
+    private final SpaceRepository spaceRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Filter serialNumbers;
+    private final Filter spaceNicknames;
+    private final Duration syncOverlap;
+
+    // 마지막으로 반영한 시각 (첫 rebuild 전에는 null)
+    private volatile LocalDateTime syncedAt;
+
+    public ExistenceFilterServiceImpl(ProfileRepository profileRepository,
+                                      SpaceRepository spaceRepository,
+                                      JdbcTemplate jdbcTemplate,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${existence-filter.serial-number-expected:1000000}") long serialNumberExpected,
+                                      @Value("${existence-filter.space-nickname-expected:1000000}") long spaceNicknameExpected,
+                                      @Value("${existence-filter.fpp:0.01}") double fpp,
+                                      @Value("${existence-filter.sync-overlap-seconds:10}") long syncOverlapSeconds) {
+        this.profileRepository = profileRepository;
+        this.spaceRepository = spaceRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.meterRegistry = meterRegistry;
+        this.serialNumbers = new Filter("serial-number", serialNumberExpected, fpp);
+        this.spaceNicknames = new Filter("space-nickname", spaceNicknameExpected, fpp);
+        this.syncOverlap = Duration.ofSeconds(syncOverlapSeconds);
+
+        for (Filter filter : new Filter[]{serialNumbers, spaceNicknames}) {
+            Gauge.builder("existence.filter.expected.fpp", filter, Filter::expectedFpp)
+                    .tag("filter", filter.name)
+                    .register(meterRegistry);
+        }
+    }
+
+    public boolean existsSerialNumber(int serialNumber) {
+        return exists(serialNumbers, BloomFilter.hash(serialNumber),
+                () -> profileRepository.existsBySerialNumber(serialNumber));
+    }
+
+    public boolean existsSpaceNickname(String nickname) {
+        if (nickname == null) {
+            return spaceRepository.existsByNickname(null);
+        }
+        return exists(spaceNicknames, nicknameHash(nickname),
+                () -> spaceRepository.existsByNickname(nickname));
+    }
+
+    // 커밋 전에 넣어야 커밋 직후의 확인이 없다고 끝나지 않고, 커밋 후에 한 번 더 넣어야 그 사이 바뀐 새 필터에도 들어간다
+    // (롤백되면 오탐으로만 남는다)
+    public void recordSerialNumber(int serialNumber) {
+        long hash = BloomFilter.hash(serialNumber);
+        serialNumbers.add(hash);
+        AfterCommit.run(() -> serialNumbers.add(hash));
+    }
+
+    public void recordSpaceNickname(String nickname) {
+        long hash = nicknameHash(nickname);
+        spaceNicknames.add(hash);
+        AfterCommit.run(() -> spaceNicknames.add(hash));
+    }
+
+    /**
+     * DB 의 값으로 필터를 새로 만든다 (기동 시, 주기적으로만 호출)
+     * 만드는 동안 들어온 값은 새 필터에도 넣으므로, 바꾼 뒤에 없어지는 값은 없다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void rebuild() {
+        LocalDateTime startedAt = LocalDateTime.now();
+
+        int serialNumberCount = serialNumbers.rebuild(next ->
+                load(SERIAL_NUMBER_SQL, next::add, this::serialNumberHash));
+        int spaceNicknameCount = spaceNicknames.rebuild(next ->
+                load(SPACE_NICKNAME_SQL, next::add, this::spaceNicknameHash));
+
+        syncedAt = startedAt;
+        log.info("존재 여부 필터 재생성 완료: serialNumbers={}, spaceNicknames={}", serialNumberCount, spaceNicknameCount);
+    }
+
+    /**
+     * 마지막 반영 이후 생성·수정된 값을 넣는다
+     * 커밋이 늦은 행을 놓치지 않도록 sync-overlap-seconds 만큼 겹쳐서 읽는다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void syncRecent() {
+        LocalDateTime since = syncedAt;
+        if (since == null) {
+            return;
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        Timestamp from = Timestamp.valueOf(since.minus(syncOverlap));
+
+        load(SERIAL_NUMBER_SQL + RECENT_CONDITION, serialNumbers::add, this::serialNumberHash, from);
+        load(SPACE_NICKNAME_SQL + RECENT_CONDITION, spaceNicknames::add, this::spaceNicknameHash, from);
+
+        syncedAt = startedAt;
+    }
+
+    private boolean exists(Filter filter, long hash, BooleanSupplier query) {
+        if (!filter.isLoaded()) {
+            count(filter, "not-loaded");
+            return query.getAsBoolean();
+        }
+        if (!filter.mightContain(hash)) {
+            count(filter, "short-circuit");
+            return false;
+        }
+
+        boolean exists = query.getAsBoolean();
+        count(filter, exists ? "hit" : "false-positive");
+        return exists;
+    }
+
+    private int load(String sql, HashConsumer target, RowHash rowHash, Object... args) {
+        AtomicInteger loaded = new AtomicInteger();
+        jdbcTemplate.query(sql, rs -> {
+            target.add(rowHash.hash(rs));
+            loaded.incrementAndGet();
+        }, args);
+        return loaded.get();
+    }
+
+    private long serialNumberHash(ResultSet rs) throws SQLException {
+        return BloomFilter.hash(rs.getInt(1));
+    }
+
+    private long spaceNicknameHash(ResultSet rs) throws SQLException {
+        return nicknameHash(rs.getString(1));
+    }
+
+    /**
+     * MySQL 기본 콜레이션은 대소문자, 악센트, 뒤쪽 공백을 구분하지 않으므로
+     * DB 가 같다고 보는 닉네임이 같은 값이 되도록 더 거칠게 줄여서 넣는다 (거칠어진 만큼은 오탐으로 DB 에서 걸러진다)
+     */
+    private static long nicknameHash(String nickname) {
+        String decomposed = Normalizer.normalize(nickname, Normalizer.Form.NFKD);
+        String normalized = COMBINING_MARKS.matcher(decomposed).replaceAll("")
+                .toLowerCase(Locale.ROOT)
+                .stripTrailing();
+        return BloomFilter.hash(normalized);
+    }
+
+    private void count(Filter filter, String result) {
+        meterRegistry.counter("existence.filter.checks", "filter", filter.name, "result", result).increment();
+    }
+
+    @FunctionalInterface
+    private interface RowHash {
+        long hash(ResultSet rs) throws SQLException;
+    }
+
+    @FunctionalInterface
+    private interface HashConsumer {
+        void add(long hash);
+    }
+
+    /**
+     * 지금 쓰는 필터와 rebuild 중에 만드는 필터
+     * 값을 넣을 때는 만드는 중인 필터를 먼저 읽고, 바꿀 때는 current 를 먼저 바꾼 뒤 building 을 비워
+     * 어느 순서로 겹쳐도 새 필터에 빠지는 값이 없게 한다.
+     */
+    private static final class Filter {
+
+        private final String name;
+        private final long expectedInsertions;
+        private final double fpp;
+        private volatile BloomFilter current;
+        private volatile BloomFilter building;
+
+        Filter(String name, long expectedInsertions, double fpp) {
+            this.name = name;
+            this.expectedInsertions = expectedInsertions;
+            this.fpp = fpp;
+        }
+
+        boolean isLoaded() {
+            return current != null;
+        }
+
+        boolean mightContain(long hash) {
+            return current.mightContain(hash);
+        }
+
+        void add(long hash) {
+            BloomFilter next = building;
+            if (next != null) {
+                next.add(hash);
+            }
+            BloomFilter filter = current;
+            if (filter != null) {
+                filter.add(hash);
+            }
+        }
+
+        int rebuild(ToIntFunction<BloomFilter> loader) {
+            BloomFilter next = BloomFilter.create(expectedInsertions, fpp);
+            building = next;
+            try {
+                int loaded = loader.applyAsInt(next);
+                current = next;
+                return loaded;
+            } finally {
+                building = null;
+            }
+        }
+
+        double expectedFpp() {
+            BloomFilter filter = current;
+            return filter == null ? Double.NaN : filter.expectedFpp();
+        }
+    }
+}
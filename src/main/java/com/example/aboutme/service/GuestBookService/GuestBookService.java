@@ -0,0 +1,38 @@
+package com.example.aboutme.service.GuestBookService;
+
+import com.example.aboutme.app.dto.GuestBookRequest;
+import com.example.aboutme.app.dto.GuestBookResponse;
+
+public interface GuestBookService {
+
+    /**
+     * 방명록 작성 (쓰기 큐에 넣고 바로 응답, 저장은 flushPendingWrites 에서 모아서 한다)
+     * @param writerId 작성자 식별자
+     * @param spaceId 스페이스 식별자
+     * @param request
+     * @return 접수된 방명록
+     */
+    GuestBookResponse.CreateResultDTO writeGuestBook(Long writerId, Long spaceId, GuestBookRequest.CreateDTO request);
+
+    /**
+     * 스페이스 방명록 조회 (최신순 키셋 페이지)
+     * @param spaceId 스페이스 식별자
+     * @param cursor 이전 페이지의 next_cursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 방명록 페이지
+     */
+    GuestBookResponse.GuestBookPageDTO getGuestBooks(Long spaceId, Long cursor, int size);
+
+    /**
+     * 방명록 삭제 (작성자 또는 스페이스 주인)
+     * @param memberId 멤버 식별자
+     * @param guestBookId 방명록 식별자
+     */
+    void deleteGuestBook(Long memberId, Long guestBookId);
+
+    /**
+     * 쓰기 큐에 쌓인 방명록을 여러 행 INSERT 로 저장
+     * @return 저장된 방명록 수
+     */
+    int flushPendingWrites();
+}
@@ -0,0 +1,215 @@
+package com.example.aboutme.service.GuestBookService;
+
+import com.example.aboutme.apiPayload.code.status.ErrorStatus;
+import com.example.aboutme.apiPayload.exception.GeneralException;
+import com.example.aboutme.app.dto.GuestBookRequest;
+import com.example.aboutme.app.dto.GuestBookResponse;
+import com.example.aboutme.converter.GuestBookConverter;
+import com.example.aboutme.domain.GuestBook;
+import com.example.aboutme.repository.GuestBookRepository;
+import com.example.aboutme.service.AfterCommit;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.stream.Collectors;
+
+/**
+ * 방명록
+ * 작성 요청은 크기가 정해진 큐에 넣고 바로 응답하며, flushPendingWrites 가 batch-size 개씩 여러 행 INSERT 로 저장한다.
+ * 스페이스별 첫 페이지는 캐시해 두고, 해당 스페이스의 방명록 저장·삭제가 커밋되면 비운다.
+ * 레플리카 지연으로 오래된 첫 페이지를 캐시하지 않도록 primary 에서 읽고, 무효화를 놓쳐도 first-page-ttl-seconds 가 지나면 다시 읽는다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class GuestBookServiceImpl implements GuestBookService {
+
+    private static final String INSERT_SQL = "insert into guest_book (created_at, updated_at, content, space_id, writer) values ";
+    private static final String INSERT_VALUES = "(?, ?, ?, ?, ?)";
+
+    private final GuestBookRepository guestBookRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final BlockingQueue<PendingGuestBook> pendingQueue;
+    private final Cache<Long, GuestBookResponse.GuestBookPageDTO> firstPageCache;
+    private final int batchSize;
+    private final int pageSize;
+
+    public GuestBookServiceImpl(GuestBookRepository guestBookRepository,
+                                JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry,
+                                @Value("${guestbook.queue-capacity:10000}") int queueCapacity,
+                                @Value("${guestbook.batch-size:200}") int batchSize,
+                                @Value("${guestbook.page-size:20}") int pageSize,
+                                @Value("${guestbook.cached-spaces:10000}") long cachedSpaces,
+                                @Value("${guestbook.first-page-ttl-seconds:60}") long firstPageTtlSeconds) {
+        this.guestBookRepository = guestBookRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.meterRegistry = meterRegistry;
+        this.pendingQueue = new ArrayBlockingQueue<>(queueCapacity);
+        this.firstPageCache = Caffeine.newBuilder()
+                .maximumSize(cachedSpaces)
+                .expireAfterWrite(Duration.ofSeconds(firstPageTtlSeconds))
+                .build();
+        this.batchSize = batchSize;
+        this.pageSize = pageSize;
+
+        Gauge.builder("guestbook.queue.size", pendingQueue, BlockingQueue::size)
+                .register(meterRegistry);
+    }
+
+    public GuestBookResponse.CreateResultDTO writeGuestBook(Long writerId, Long spaceId, GuestBookRequest.CreateDTO request) {
+
+        PendingGuestBook pendingGuestBook = new PendingGuestBook(spaceId, writerId, request.getContent(), LocalDateTime.now());
+
+        // 큐가 가득 차면 요청 스레드를 붙잡지 않고 바로 거절한다
+        if (!pendingQueue.offer(pendingGuestBook)) {
+            count("rejected", 1);
+            throw new GeneralException(ErrorStatus.GUEST_BOOK_QUEUE_FULL);
+        }
+
+        count("accepted", 1);
+        return GuestBookConverter.toCreateResultDTO(spaceId, request.getContent());
+    }
+
+    // 캐시할 첫 페이지는 primary, 나머지 페이지는 레플리카에서 읽도록 트랜잭션을 직접 연다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public GuestBookResponse.GuestBookPageDTO getGuestBooks(Long spaceId, Long cursor, int size) {
+
+        if (cursor == null && size == pageSize) {
+            return firstPageCache.get(spaceId, key -> transactionTemplate.execute(status -> readPage(spaceId, Long.MAX_VALUE, size)));
+        }
+        return readOnlyTransactionTemplate.execute(status -> readPage(spaceId, cursor == null ? Long.MAX_VALUE : cursor, size));
+    }
+
+    @Transactional
+    public void deleteGuestBook(Long memberId, Long guestBookId) {
+
+        GuestBook guestBook = guestBookRepository.findById(guestBookId)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.GUEST_BOOK_NOT_FOUND));
+
+        boolean isWriter = guestBook.getWriter().getId().equals(memberId);
+        boolean isSpaceOwner = guestBook.getSpace().getMember().getId().equals(memberId);
+        if (!isWriter && !isSpaceOwner) {
+            throw new GeneralException(ErrorStatus.GUEST_BOOK_NOT_MINE);
+        }
+
+        guestBookRepository.delete(guestBook);
+        Long spaceId = guestBook.getSpace().getId();
+        AfterCommit.run(() -> firstPageCache.invalidate(spaceId));
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int flushPendingWrites() {
+        int flushed = 0;
+        List<PendingGuestBook> batch = new ArrayList<>(batchSize);
+
+        while (pendingQueue.drainTo(batch, batchSize) > 0) {
+            flushed += insert(batch);
+            batch.clear();
+        }
+
+        return flushed;
+    }
+
+    // 종료 전에 큐에 남은 방명록을 저장한다
+    @PreDestroy
+    public void flushOnShutdown() {
+        int flushed = flushPendingWrites();
+        if (flushed > 0) {
+            log.info("종료 전 방명록 저장: count={}", flushed);
+        }
+    }
+
+    private GuestBookResponse.GuestBookPageDTO readPage(Long spaceId, Long cursor, int size) {
+        List<GuestBook> guestBookList = guestBookRepository.findPageBySpaceId(spaceId, cursor, PageRequest.of(0, size));
+        return GuestBookConverter.toGuestBookPageDTO(guestBookList, size);
+    }
+
+    private int insert(List<PendingGuestBook> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> insertRows(batch));
+            count("flushed", batch.size());
+            return batch.size();
+        } catch (DataAccessException e) {
+            // 큐에 있는 동안 스페이스나 작성자가 삭제된 행이 섞이면 한 행씩 나눠서 저장한다
+            log.warn("방명록 일괄 저장 실패, 한 건씩 재시도: count={}, error={}", batch.size(), e.getMessage());
+            return insertOneByOne(batch);
+        }
+    }
+
+    private int insertOneByOne(List<PendingGuestBook> batch) {
+        int inserted = 0;
+
+        for (PendingGuestBook pendingGuestBook : batch) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> insertRows(List.of(pendingGuestBook)));
+                inserted++;
+            } catch (DataAccessException e) {
+                log.warn("방명록 저장 실패로 버림: spaceId={}, writerId={}, error={}",
+                        pendingGuestBook.spaceId(), pendingGuestBook.writerId(), e.getMessage());
+                count("dropped", 1);
+            }
+        }
+
+        count("flushed", inserted);
+        return inserted;
+    }
+
+    private void insertRows(List<PendingGuestBook> rows) {
+        // 커밋된 뒤에 비워야 다음 조회가 새 방명록을 포함한 첫 페이지를 다시 캐시한다
+        Set<Long> spaceIds = rows.stream()
+                .map(PendingGuestBook::spaceId)
+                .collect(Collectors.toSet());
+        AfterCommit.run(() -> firstPageCache.invalidateAll(spaceIds));
+
+        String sql = INSERT_SQL + String.join(", ", Collections.nCopies(rows.size(), INSERT_VALUES));
+
+        List<Object> args = new ArrayList<>(rows.size() * 5);
+        for (PendingGuestBook row : rows) {
+            Timestamp createdAt = Timestamp.valueOf(row.createdAt());
+            args.add(createdAt);
+            args.add(createdAt);
+            args.add(row.content());
+            args.add(row.spaceId());
+            args.add(row.writerId());
+        }
+
+        jdbcTemplate.update(sql, args.toArray());
+    }
+
+    private void count(String result, int amount) {
+        meterRegistry.counter("guestbook.writes", "result", result).increment(amount);
+    }
+
+    private record PendingGuestBook(Long spaceId, Long writerId, String content, LocalDateTime createdAt) {
+    }
+}
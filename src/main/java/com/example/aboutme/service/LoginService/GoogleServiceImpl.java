@@ -9,6 +9,7 @@ import com.example.aboutme.domain.Member;
 import com.example.aboutme.domain.constant.Social;
 import com.example.aboutme.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.json.simple.JSONObject;
 import org.json.simple.parser.JSONParser;
 import org.springframework.beans.factory.annotation.Value;
@@ -24,12 +25,14 @@ import org.springframework.web.client.RestTemplate;
 import java.net.URI;
 import java.util.Map;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class GoogleServiceImpl implements GoogleService{
     private final MemberRepository memberRepository;
     private final TokenProvider tokenProvider;
+    private final RestTemplate restTemplate;
 
     @Value("${spring.security.oauth2.client.registration.google.client-id}")
     private String GOOGLE_CLIENT_ID;
@@ -39,6 +42,13 @@ public class GoogleServiceImpl implements GoogleService{
 
     @Value("${spring.security.oauth2.client.registration.google.redirect-uri}")
     private String GOOGLE_REDIRECT_URL;
+
+    @Value("${oauth.google.token-uri:https://oauth2.googleapis.com/token}")
+    private String GOOGLE_TOKEN_URI;
+
+    @Value("${oauth.google.user-info-uri:https://www.googleapis.com/oauth2/v3/userinfo}")
+    private String GOOGLE_USER_INFO_URI;
+
     public String getGoogleLogin() {
         return "https://accounts.google.com/o/oauth2/v2/auth?client_id="
                 + GOOGLE_CLIENT_ID
@@ -62,11 +72,10 @@ public class GoogleServiceImpl implements GoogleService{
             params.add("code"         , code);
             params.add("redirect_uri" , GOOGLE_REDIRECT_URL);
 
-            RestTemplate restTemplate = new RestTemplate();
             HttpEntity<MultiValueMap<String, String>> httpEntity = new HttpEntity<>(params, headers);
 
             ResponseEntity<String> response = restTemplate.exchange(
-                    "https://oauth2.googleapis.com/token",
+                    GOOGLE_TOKEN_URI,
                     HttpMethod.POST,
                     httpEntity,
                     String.class
@@ -77,13 +86,11 @@ public class GoogleServiceImpl implements GoogleService{
 
             accessToken  = (String) jsonObj.get("access_token");
             refreshToken = (String) jsonObj.get("refresh_token");
-
-            System.out.println("acct:"+accessToken);
         } catch (Exception e) {
 //            throw new Exception("API call failed");
             throw new GeneralException(ErrorStatus._BAD_REQUEST);
         }
-        System.out.println(accessToken);
+        log.debug("구글 액세스 토큰 발급 완료");
         return getUserInfoWithToken(accessToken);
     }
 
@@ -92,11 +99,11 @@ public class GoogleServiceImpl implements GoogleService{
         HttpHeaders headers = new HttpHeaders();
         headers.setBearerAuth(accessToken);
         headers.setContentType(MediaType.APPLICATION_JSON);
-        String userInfoEndpointUri = "https://www.googleapis.com/oauth2/v3/userinfo";
+        String userInfoEndpointUri = GOOGLE_USER_INFO_URI;
 
         RequestEntity<Void> request = RequestEntity.get(URI.create(userInfoEndpointUri)).headers(headers).build();
-        ResponseEntity<String> responseEntity = new RestTemplate().exchange(request, String.class);
-        System.out.println(responseEntity);
+        ResponseEntity<String> responseEntity = restTemplate.exchange(request, String.class);
+        log.debug("구글 사용자 조회: status={}", responseEntity.getStatusCode());
 
         // 응답에서 이메일 주소 가져오기
         JsonParser jsonParser = JsonParserFactory.getJsonParser();
@@ -106,7 +113,6 @@ public class GoogleServiceImpl implements GoogleService{
 
         // "sub"와 "email" 키를 사용하여 값을 추출
         String email = (String) jsonMap.get("email");
-        System.out.println(email);
 
 
         return SocialInfoRequest.GoogleDTO.builder()
@@ -121,6 +127,7 @@ public class GoogleServiceImpl implements GoogleService{
         Boolean principal = memberRepository.existsByEmailAndSocial(newMember.getEmail(),Social.GOOGLE);
         if (principal == false){
             memberRepository.save(newMember);
+            log.debug("구글 회원 가입: memberId={}", newMember.getId());
         }
         return newMember;
     }
@@ -9,6 +9,7 @@ import com.example.aboutme.domain.Member;
 import com.example.aboutme.domain.constant.Social;
 import com.example.aboutme.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.json.simple.JSONObject;
 import org.json.simple.parser.JSONParser;
 import org.springframework.beans.factory.annotation.Value;
@@ -22,12 +23,14 @@ import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestTemplate;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class KakaoServiceImpl implements KakaoService {
     private final MemberRepository memberRepository;
     private final TokenProvider tokenProvider;
+    private final RestTemplate restTemplate;
 
     @Value("${spring.security.oauth2.client.registration.kakao.client-id}")
     private String KAKAO_CLIENT_ID;
@@ -38,8 +41,11 @@ public class KakaoServiceImpl implements KakaoService {
     @Value("${spring.security.oauth2.client.registration.kakao.redirect-uri}")
     private String KAKAO_REDIRECT_URL;
 
-    private final static String KAKAO_AUTH_URI = "https://kauth.kakao.com";
-    private final static String KAKAO_API_URI = "https://kapi.kakao.com";
+    @Value("${oauth.kakao.auth-uri:https://kauth.kakao.com}")
+    private String KAKAO_AUTH_URI;
+
+    @Value("${oauth.kakao.api-uri:https://kapi.kakao.com}")
+    private String KAKAO_API_URI;
 
     public String getKakaoLogin() {
         return KAKAO_AUTH_URI + "/oauth/authorize"
@@ -65,7 +71,6 @@ public class KakaoServiceImpl implements KakaoService {
             params.add("code"         , code);
             params.add("redirect_uri" , KAKAO_REDIRECT_URL);
 
-            RestTemplate restTemplate = new RestTemplate();
             HttpEntity<MultiValueMap<String, String>> httpEntity = new HttpEntity<>(params, headers);
 
             ResponseEntity<String> response = restTemplate.exchange(
@@ -84,7 +89,7 @@ public class KakaoServiceImpl implements KakaoService {
 //            throw new Exception("API call failed");
             throw new GeneralException(ErrorStatus._BAD_REQUEST);
         }
-        System.out.println("acct:"+accessToken);
+        log.debug("카카오 액세스 토큰 발급 완료");
         return getUserInfoWithToken(accessToken);
     }
 
@@ -95,9 +100,8 @@ public class KakaoServiceImpl implements KakaoService {
         headers.add("Content-type", "application/x-www-form-urlencoded;charset=utf-8");
 
         //HttpHeader 담기
-        RestTemplate rt = new RestTemplate();
         HttpEntity<MultiValueMap<String, String>> httpEntity = new HttpEntity<>(headers);
-        ResponseEntity<String> response = rt.exchange(
+        ResponseEntity<String> response = restTemplate.exchange(
                 KAKAO_API_URI + "/v2/user/me",
                 HttpMethod.GET,
                 httpEntity,
@@ -111,7 +115,7 @@ public class KakaoServiceImpl implements KakaoService {
         JSONObject profile = (JSONObject) account.get("profile");
 
         long id = (long) jsonObj.get("id");
-        System.out.println(id);
+        log.debug("카카오 사용자 조회: id={}", id);
         String email = String.valueOf(account.get("email"));
         String nickname = String.valueOf(profile.get("nickname"));
 
@@ -126,6 +130,7 @@ public class KakaoServiceImpl implements KakaoService {
         Boolean principal = memberRepository.existsByEmailAndSocial(newMember.getEmail(), Social.KAKAO);
         if (principal == false){
             memberRepository.save(newMember);
+            log.debug("카카오 회원 가입: memberId={}", newMember.getId());
         }
 
         return newMember;
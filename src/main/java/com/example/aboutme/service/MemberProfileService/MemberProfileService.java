@@ -1,18 +1,27 @@
 package com.example.aboutme.service.MemberProfileService;
 
 import com.example.aboutme.Login.jwt.TokenDTO;
+import com.example.aboutme.apiPayload.FieldSet;
+import com.example.aboutme.app.dto.MemberProfileResponse;
 import com.example.aboutme.domain.ProfileFeature;
 import com.example.aboutme.domain.mapping.MemberProfile;
 import com.example.aboutme.app.dto.ProfileRequest;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-
 @Service
 public interface MemberProfileService {
-    Boolean toggleFavorite(Long memberId, Long profileId);
+    /**
+     * 보관함 즐겨찾기 설정 (멱등)
+     * @param memberId 보관함 주인 식별자
+     * @param profileId 프로필 식별자
+     * @param favorite 즐겨찾기 여부
+     * @return 설정된 즐겨찾기 여부
+     */
+    Boolean updateFavorite(Long memberId, Long profileId, Boolean favorite);
+
+    MemberProfileResponse.SearchMemberProfileListDTO getMyProfilesStorage(String email);
 
-    List<MemberProfile> getMyProfilesStorage(String email);
+    MemberProfileResponse.SearchMemberProfileListDTO getMyProfilesStorage(String email, FieldSet fieldSet);
 
     MemberProfile deleteMemberProfile(String email, Long profileId);
     /**
@@ -24,5 +33,5 @@ public interface MemberProfileService {
 
     void sendMyProfile(Long memberId, ProfileRequest.SendProfileDTO request);
 
-    List<MemberProfile> filterWithKeyword(Long memberId, String keyword);
+    MemberProfileResponse.SearchMemberProfileListDTO filterWithKeyword(Long memberId, String keyword);
 }
@@ -1,8 +1,10 @@
 package com.example.aboutme.service.MemberProfileService;
 
 import com.example.aboutme.Login.jwt.TokenDTO;
+import com.example.aboutme.apiPayload.FieldSet;
 import com.example.aboutme.apiPayload.code.status.ErrorStatus;
 import com.example.aboutme.apiPayload.exception.GeneralException;
+import com.example.aboutme.app.dto.MemberProfileResponse;
 import com.example.aboutme.app.dto.ProfileRequest;
 import com.example.aboutme.converter.AlarmConverter;
 import com.example.aboutme.converter.MemberProfileConverter;
@@ -13,6 +15,8 @@ import com.example.aboutme.domain.ProfileFeature;
 import com.example.aboutme.domain.mapping.MemberProfile;
 import com.example.aboutme.repository.*;
 import com.example.aboutme.service.MemberService.MemberService;
+import com.example.aboutme.service.ProfileVisitorService.ProfileVisitorService;
+import com.example.aboutme.service.RankingService.RankingService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,29 +35,36 @@ public class MemberProfileServiceImpl implements MemberProfileService {
     private final ProfileFeatureRepository profileFeatureRepository;
     private final MemberService memberService;
     private final AlarmRepository alarmRepository;
+    private final ProfileVisitorService profileVisitorService;
+    private final RankingService rankingService;
 
-    // 프로필 보관함 즐겨찾기
+    // 프로필 보관함 즐겨찾기 (읽고 뒤집지 않고 원하는 값으로 바로 갱신)
     @Transactional
-    public Boolean toggleFavorite(Long memberId, Long profileId) {
+    public Boolean updateFavorite(Long memberId, Long profileId, Boolean favorite) {
 
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new GeneralException(ErrorStatus.MEMBER_NOT_FOUND));
-
-        Profile profile = profileRepository.findById(profileId).get();
-
-        MemberProfile memberProfile = memberProfileRepository.findByMemberAndProfile(member, profile);
-        if (memberProfile == null) {
+        if (memberProfileRepository.updateFavorite(memberId, profileId, favorite) == 0) {
             throw new GeneralException(ErrorStatus.MEMBER_PROFILE_NOT_FOUND);
         }
 
-        memberProfile.toggleFavorite();
+        return favorite;
+    }
 
-        return memberProfile.getFavorite();
+    public MemberProfileResponse.SearchMemberProfileListDTO getMyProfilesStorage(String email) {
+        return getMyProfilesStorage(email, FieldSet.all());
     }
 
-    public List<MemberProfile> getMyProfilesStorage(String email) {
+    // 프로필 이름을 응답하지 않으면 프로필 특징은 조회하지 않는다
+    public MemberProfileResponse.SearchMemberProfileListDTO getMyProfilesStorage(String email, FieldSet fieldSet) {
         Member member = memberService.findMember(email);
-        return memberProfileRepository.findAllByMember(member);
+
+        List<MemberProfile> memberProfileList = fieldSet.includes("profileName")
+                ? memberProfileRepository.findAllWithProfileFeaturesByMember(member)
+                : memberProfileRepository.findAllWithProfileByMember(member);
+
+        // 보관함에서 본 프로필마다 방문자로 집계
+        memberProfileList.forEach(memberProfile -> profileVisitorService.recordVisit(memberProfile.getProfile().getId(), member.getId()));
+
+        return MemberProfileConverter.toSearchMemberProfileListDTO(memberProfileList, fieldSet);
     }
 
     @Transactional
@@ -67,6 +78,8 @@ public class MemberProfileServiceImpl implements MemberProfileService {
 //        }
         MemberProfile memberProfile = memberProfileRepository.findByMemberAndProfile(member, profile);
         memberProfileRepository.delete(memberProfile);
+        memberRepository.addProfileSharedNum(profile.getMember().getId(), -1);
+        rankingService.recordProfileSaved(profile.getId(), -1);
         return memberProfile;
     }
 
@@ -103,6 +116,8 @@ public class MemberProfileServiceImpl implements MemberProfileService {
 
         memberProfileList.forEach(memberProfile -> {
             memberProfileRepository.save(memberProfile);
+            memberRepository.addProfileSharedNum(memberProfile.getProfile().getMember().getId(), 1);
+            rankingService.recordProfileSaved(memberProfile.getProfile().getId(), 1);
         });
     }
 
@@ -112,7 +127,7 @@ public class MemberProfileServiceImpl implements MemberProfileService {
      * @param memberId 멤버 식별자
      * @param keyword  검색어(프로필 이름)
      */
-    public List<MemberProfile> filterWithKeyword(Long memberId, String keyword) {
+    public MemberProfileResponse.SearchMemberProfileListDTO filterWithKeyword(Long memberId, String keyword) {
 
         Member member = memberService.findMember(memberId);
 
@@ -122,7 +137,12 @@ public class MemberProfileServiceImpl implements MemberProfileService {
                 .map(ProfileFeature::getProfile)
                 .toList();
 
-        return memberProfileRepository.findByMemberAndProfileIn(member, profileList);
+        if (profileList.isEmpty()) {
+            return MemberProfileConverter.toSearchMemberProfileListDTO(List.of());
+        }
+
+        return MemberProfileConverter.toSearchMemberProfileListDTO(
+                memberProfileRepository.findAllWithProfileFeaturesByMemberAndProfileIn(member, profileList));
     }
 
     /**
@@ -26,4 +26,21 @@ public interface MemberService {
      * @return 마이프로필 정보
      */
     MyPageResponse.GetMyPageDTO getMyPage(TokenDTO.tokenClaimsDTO tokenClaimsDTO);
+
+    /**
+     * 마이페이지 버전 조회 (ETag 계산용)
+     * @param tokenClaimsDTO 멤버 식별자
+     * @return 버전 문자열
+     */
+    String getMyPageVersion(TokenDTO.tokenClaimsDTO tokenClaimsDTO);
+
+    /**
+     * 공유 현황 재계산
+     * @param fromId 시작 멤버 식별자 (포함)
+     * @param toId 끝 멤버 식별자 (포함)
+     * @return 갱신된 멤버 수
+     */
+    int reconcileSharedNum(Long fromId, Long toId);
+
+    Long findMaxMemberId();
 }
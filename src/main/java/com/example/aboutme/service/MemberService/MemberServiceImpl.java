@@ -6,16 +6,17 @@ import com.example.aboutme.apiPayload.exception.GeneralException;
 import com.example.aboutme.app.dto.MyPageResponse;
 import com.example.aboutme.converter.MemberConverter;
 import com.example.aboutme.domain.Member;
+import com.example.aboutme.domain.UnregisterJob;
 import com.example.aboutme.domain.constant.Social;
+import com.example.aboutme.domain.constant.UnregisterJobStatus;
 import com.example.aboutme.repository.*;
+import com.example.aboutme.service.ProfileVisitorService.ProfileVisitorService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
@@ -23,9 +24,8 @@ import java.util.List;
 public class MemberServiceImpl implements MemberService {
 
     private final MemberRepository memberRepository;
-    private final ProfileFeatureRepository profileFeatureRepository;
-    private final MemberProfileRepository memberProfileRepository;
-    private final MemberSpaceRepository memberSpaceRepository;
+    private final UnregisterJobRepository unregisterJobRepository;
+    private final ProfileVisitorService profileVisitorService;
 
     public Member findMember(Long memberId) {
         return memberRepository.findById(memberId).orElseThrow(
@@ -46,9 +46,10 @@ public class MemberServiceImpl implements MemberService {
         );
     }
     public Member findMember(TokenDTO.tokenClaimsDTO tokenClaimsDTO){
-        log.info("이메일={}, 소셜={}", tokenClaimsDTO.getEmail(), tokenClaimsDTO.getSocial());
-        return memberRepository.findByEmailAndSocial(tokenClaimsDTO.getEmail(), tokenClaimsDTO.getSocial())
+        Member member = memberRepository.findByEmailAndSocial(tokenClaimsDTO.getEmail(), tokenClaimsDTO.getSocial())
                 .orElseThrow(() -> new GeneralException(ErrorStatus.MEMBER_NOT_FOUND));
+        log.info("memberId={}, 소셜={}", member.getId(), tokenClaimsDTO.getSocial());
+        return member;
     }
 
     @Transactional
@@ -57,9 +58,20 @@ public class MemberServiceImpl implements MemberService {
         memberRepository.deleteById(memberId);
     }
 
+    /**
+     * 회원 탈퇴
+     * 멤버는 즉시 탈퇴 처리하고, 연관 데이터는 UnregisterJob 으로 나눠서 정리한다.
+     * @param email 멤버 이메일
+     */
     @Transactional
     public void deleteMember(String email) {
-        memberRepository.deleteByEmail(email);
+        Member member = findMember(email);
+        member.markDeleted();
+
+        unregisterJobRepository.save(UnregisterJob.builder()
+                .memberId(member.getId())
+                .status(UnregisterJobStatus.PENDING)
+                .build());
     }
 
     /**
@@ -68,13 +80,38 @@ public class MemberServiceImpl implements MemberService {
      * @return 마이프로필 정보
      */
     public MyPageResponse.GetMyPageDTO getMyPage(TokenDTO.tokenClaimsDTO tokenClaimsDTO){
-        Member member = findMember(tokenClaimsDTO);
+        MemberRepository.MyPageRow row = memberRepository.findMyPageRow(tokenClaimsDTO.getEmail(), tokenClaimsDTO.getSocial().name())
+                .orElseThrow(() -> new GeneralException(ErrorStatus.MEMBER_NOT_FOUND));
+
+        // 방문자 스케치는 아직 저장되지 않은 이 서버의 스케치와 합쳐야 하므로 따로 읽는다
+        long profileVisitorNum = profileVisitorService.estimateMemberVisitors(row.getMemberId());
+        return MemberConverter.toGetMyPageDTO(row.getProfileName(), row.getSpaceName(), row.getProfileSharedNum(), row.getSpaceSharedNum(), profileVisitorNum);
+    }
+
+    /**
+     * 마이페이지 버전 조회 (ETag 계산용)
+     * @param tokenClaimsDTO 멤버 식별자
+     * @return 버전 문자열
+     */
+    public String getMyPageVersion(TokenDTO.tokenClaimsDTO tokenClaimsDTO){
+        // 멤버 엔티티를 읽지 않고 버전 쿼리 하나로 끝낸다
+        return memberRepository.findMyPageVersionByEmailAndSocial(tokenClaimsDTO.getEmail(), tokenClaimsDTO.getSocial().name())
+                .orElseThrow(() -> new GeneralException(ErrorStatus.MEMBER_NOT_FOUND));
+    }
+
+    /**
+     * 공유 현황 재계산
+     * @param fromId 시작 멤버 식별자 (포함)
+     * @param toId 끝 멤버 식별자 (포함)
+     * @return 갱신된 멤버 수
+     */
+    @Transactional
+    public int reconcileSharedNum(Long fromId, Long toId) {
+        return memberRepository.reconcileSharedNum(fromId, toId);
+    }
 
-        List<String> profileNameList = profileFeatureRepository.findProfileFeature(member);
-        String profileName = profileNameList.size() == 0 ? null : profileNameList.get(0);
-        String spaceName = member.getSpace() != null ? member.getSpace().getNickname() : null;
-        int profileSharedNum = memberProfileRepository.countSharedProfileByMember(member);
-        int spaceSharedNum = memberSpaceRepository.countSharedSpaceByMember(member);
-        return MemberConverter.toGetMyPageDTO(profileName, spaceName, profileSharedNum, spaceSharedNum);
+    public Long findMaxMemberId() {
+        Long maxId = memberRepository.findMaxId();
+        return maxId != null ? maxId : 0L;
     }
 }
@@ -4,13 +4,11 @@ import com.example.aboutme.app.dto.MemberSpaceResponse;
 import com.example.aboutme.domain.mapping.MemberSpace;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-
 @Service
 public interface MemberSpaceService {
-    List<MemberSpace> filterWithKeyword(Long memberId, String keyword);
+    MemberSpaceResponse.GetListDto filterWithKeyword(Long memberId, String keyword);
 
-    Boolean toggleFavorite(Long memberId, Long spaceId);
+    Boolean updateFavorite(Long memberId, Long spaceId, Boolean favorite);
 
     MemberSpace addMemberSpace(Long memberId, Long spaceId);
 
@@ -3,12 +3,14 @@ package com.example.aboutme.service.MemberSpaceService;
 import com.example.aboutme.apiPayload.code.status.ErrorStatus;
 import com.example.aboutme.apiPayload.exception.GeneralException;
 import com.example.aboutme.app.dto.MemberSpaceResponse;
+import com.example.aboutme.converter.MemberSpaceConverter;
 import com.example.aboutme.domain.Member;
 import com.example.aboutme.domain.Space;
 import com.example.aboutme.domain.mapping.MemberSpace;
 import com.example.aboutme.repository.MemberRepository;
 import com.example.aboutme.repository.MemberSpaceRepository;
 import com.example.aboutme.repository.SpaceRepository;
+import com.example.aboutme.service.RankingService.RankingService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,33 +26,27 @@ public class MemberSpaceServiceImpl implements MemberSpaceService {
     private final MemberSpaceRepository memberSpaceRepository;
     private final SpaceRepository spaceRepository;
     private final MemberRepository memberRepository;
+    private final RankingService rankingService;
 
     // 아지트 내 스페이스 목록 조회
-    public List<MemberSpace> filterWithKeyword(Long memberId, String keyword) {
+    public MemberSpaceResponse.GetListDto filterWithKeyword(Long memberId, String keyword) {
 
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new GeneralException(ErrorStatus.MEMBER_NOT_FOUND));
 
-        return memberSpaceRepository.findByMemberAndSpace_NicknameContaining(member, keyword);
+        return MemberSpaceConverter.toGetMemberSpaceListDTO(
+                memberSpaceRepository.findAllWithSpaceByMemberAndNicknameContaining(member, keyword));
     }
 
-    // 아지트 내 스페이스 즐겨찾기
+    // 아지트 내 스페이스 즐겨찾기 (읽고 뒤집지 않고 원하는 값으로 바로 갱신)
     @Transactional
-    public Boolean toggleFavorite(Long memberId, Long spaceId) {
+    public Boolean updateFavorite(Long memberId, Long spaceId, Boolean favorite) {
 
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new GeneralException(ErrorStatus.MEMBER_NOT_FOUND));
-
-        Space space = spaceRepository.findById(spaceId).get();
-
-        MemberSpace memberSpace = memberSpaceRepository.findByMemberAndSpace(member, space);
-        if (memberSpace == null) {
+        if (memberSpaceRepository.updateFavorite(memberId, spaceId, favorite) == 0) {
             throw new GeneralException(ErrorStatus.MEMBER_SPACE_NOT_FOUND);
         }
 
-        memberSpace.toggleFavorite();
-
-        return memberSpace.isFavorite();
+        return favorite;
     }
 
     // 아지트 내 스페이스 추가
@@ -77,6 +73,8 @@ public class MemberSpaceServiceImpl implements MemberSpaceService {
                 .build();
 
         memberSpaceRepository.save(memberSpace);
+        memberRepository.addSpaceSharedNum(space.getMember().getId(), 1);
+        rankingService.recordSpaceSaved(space.getId(), 1);
 
         return memberSpace;
     }
@@ -97,5 +95,7 @@ public class MemberSpaceServiceImpl implements MemberSpaceService {
         }
 
         memberSpaceRepository.delete(memberSpaceToDelete);
+        memberRepository.addSpaceSharedNum(space.getMember().getId(), -1);
+        rankingService.recordSpaceSaved(space.getId(), -1);
     }
 }
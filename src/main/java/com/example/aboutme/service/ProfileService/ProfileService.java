@@ -1,10 +1,11 @@
 package com.example.aboutme.service.ProfileService;
 
 import com.example.aboutme.Login.jwt.TokenDTO;
+import com.example.aboutme.apiPayload.FieldSet;
 import com.example.aboutme.app.dto.ProfileRequest;
+import com.example.aboutme.app.dto.ProfileResponse;
 import com.example.aboutme.domain.Profile;
 import com.example.aboutme.domain.ProfileFeature;
-import com.example.aboutme.domain.ProfileImage;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
@@ -16,14 +17,44 @@ public interface ProfileService {
      * @param tokenClaimsDTO 멤버 식별자
      * @return 마이프로필 목록
      */
-    List<Profile> getMyProfiles(TokenDTO.tokenClaimsDTO tokenClaimsDTO);
+    ProfileResponse.GetProfileListDTO getMyProfiles(TokenDTO.tokenClaimsDTO tokenClaimsDTO);
+
+    /**
+     * 내 마이프로필 목록 조회 (응답에 필요한 연관관계만 조회)
+     * @param tokenClaimsDTO 멤버 식별자
+     * @param fieldSet 응답 필드 목록
+     * @return 마이프로필 목록
+     */
+    ProfileResponse.GetProfileListDTO getMyProfiles(TokenDTO.tokenClaimsDTO tokenClaimsDTO, FieldSet fieldSet);
 
     /**
      * 마이프로필 단건 조회
      * @param profileId 프로필 식별자
      * @return 마이프로필
      */
-    Profile getMyProfile(Long profileId);
+    ProfileResponse.GetMyProfileDTO getMyProfile(Long profileId);
+
+    /**
+     * 마이프로필 단건 조회 (응답에 필요한 연관관계만 조회)
+     * @param profileId 프로필 식별자
+     * @param fieldSet 응답 필드 목록
+     * @return 마이프로필
+     */
+    ProfileResponse.GetMyProfileDTO getMyProfile(Long profileId, FieldSet fieldSet);
+
+    /**
+     * 내 마이프로필 목록 버전 조회 (ETag 계산용)
+     * @param tokenClaimsDTO 멤버 식별자
+     * @return 버전 문자열
+     */
+    String getMyProfilesVersion(TokenDTO.tokenClaimsDTO tokenClaimsDTO);
+
+    /**
+     * 마이프로필 단건 버전 조회 (ETag 계산용)
+     * @param profileId 프로필 식별자
+     * @return 버전 문자열
+     */
+    String getMyProfileVersion(Long profileId);
 
     /**
      * 마이프로필 생성
@@ -53,7 +84,7 @@ public interface ProfileService {
      * @param request
      * @return 수정된 마이프로필 이미지
      */
-    ProfileImage updateMyProfileImage(TokenDTO.tokenClaimsDTO tokenClaimsDTO, Long profileId, MultipartFile image, ProfileRequest.UpdateProfileImageDTO request);
+    ProfileResponse.UpdateMyProfileImageDTO updateMyProfileImage(TokenDTO.tokenClaimsDTO tokenClaimsDTO, Long profileId, MultipartFile image, ProfileRequest.UpdateProfileImageDTO request);
 
     /**
      * 내 마이프로필 삭제
@@ -65,7 +96,15 @@ public interface ProfileService {
     /**
      * 프로필 검색
      * @param serialNumber 시리얼 넘버
+     * @param visitor 검색한 멤버 (없으면 방문자로 집계하지 않는다)
      * @return 검색된 프로필
      */
-    Profile searchProfile(int serialNumber);
+    ProfileResponse.SearchProfileDTO searchProfile(int serialNumber, TokenDTO.tokenClaimsDTO visitor);
+
+    /**
+     * 프로필 일괄 검색
+     * @param serialNumberList 시리얼 넘버 목록
+     * @return 요청 순서대로 검색된 프로필 목록과 존재하지 않는 시리얼 넘버 목록
+     */
+    ProfileResponse.SearchProfileListDTO searchProfiles(List<Integer> serialNumberList);
 }
@@ -1,9 +1,11 @@
 package com.example.aboutme.service.ProfileService;
 
 import com.example.aboutme.Login.jwt.TokenDTO;
+import com.example.aboutme.apiPayload.FieldSet;
 import com.example.aboutme.apiPayload.code.status.ErrorStatus;
 import com.example.aboutme.apiPayload.exception.GeneralException;
 import com.example.aboutme.app.dto.ProfileRequest;
+import com.example.aboutme.app.dto.ProfileResponse;
 import com.example.aboutme.aws.s3.S3ResponseDto;
 import com.example.aboutme.aws.s3.S3Service;
 import com.example.aboutme.converter.ProfileConverter;
@@ -13,11 +15,16 @@ import com.example.aboutme.domain.Member;
 import com.example.aboutme.domain.Profile;
 import com.example.aboutme.domain.ProfileFeature;
 import com.example.aboutme.domain.ProfileImage;
+import com.example.aboutme.domain.Space;
 import com.example.aboutme.domain.constant.ProfileImageType;
+import com.example.aboutme.repository.MemberProfileRepository;
+import com.example.aboutme.repository.MemberRepository;
 import com.example.aboutme.repository.ProfileFeatureRepository;
-import com.example.aboutme.repository.ProfileImageRepository;
 import com.example.aboutme.repository.ProfileRepository;
+import com.example.aboutme.repository.SpaceRepository;
+import com.example.aboutme.service.ExistenceFilterService.ExistenceFilterService;
 import com.example.aboutme.service.MemberService.MemberService;
+import com.example.aboutme.service.ProfileVisitorService.ProfileVisitorService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -26,6 +33,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Optional;
 
 @Service
 @Transactional(readOnly = true)
@@ -34,20 +42,45 @@ import java.util.NoSuchElementException;
 public class ProfileServiceImpl implements ProfileService{
 
     private final MemberService memberService;
+    private final MemberRepository memberRepository;
+    private final MemberProfileRepository memberProfileRepository;
     private final ProfileRepository profileRepository;
     private final ProfileFeatureRepository profileFeatureRepository;
-    private final ProfileImageRepository profileImageRepository;
+    private final SpaceRepository spaceRepository;
     private final S3Service s3Service;
+    private final ProfileVisitorService profileVisitorService;
+    private final ExistenceFilterService existenceFilterService;
 
     /**
      * 내 마이프로필 목록 조회
      * @param tokenClaimsDTO 멤버 식별자
      * @return 마이프로필 목록
      */
-    public List<Profile> getMyProfiles(TokenDTO.tokenClaimsDTO tokenClaimsDTO){
+    public ProfileResponse.GetProfileListDTO getMyProfiles(TokenDTO.tokenClaimsDTO tokenClaimsDTO){
+
+        return getMyProfiles(tokenClaimsDTO, FieldSet.all());
+    }
+
+    /**
+     * 내 마이프로필 목록 조회 (응답에 필요한 연관관계만 조회)
+     * 응답 DTO 변환까지 트랜잭션 안에서 끝낸다 (open-in-view 비활성화)
+     * @param tokenClaimsDTO 멤버 식별자
+     * @param fieldSet 응답 필드 목록
+     * @return 마이프로필 목록
+     */
+    public ProfileResponse.GetProfileListDTO getMyProfiles(TokenDTO.tokenClaimsDTO tokenClaimsDTO, FieldSet fieldSet){
         Member member = memberService.findMember(tokenClaimsDTO);
 
-        return profileRepository.findAllByMemberOrderByIsDefaultDesc(member);
+        List<Profile> profileList;
+        if (fieldSet.includes("front_features")) {
+            profileList = profileRepository.findAllWithFeaturesByMemberOrderByIsDefaultDesc(member);
+        } else if (fieldSet.includes("profile_image")) {
+            profileList = profileRepository.findAllWithImageByMemberOrderByIsDefaultDesc(member);
+        } else {
+            profileList = profileRepository.findAllByMemberOrderByIsDefaultDesc(member);
+        }
+
+        return ProfileConverter.toGetProfileListDTO(profileList, fieldSet);
     }
 
     public List<Profile> getMyProfiles(String email){
@@ -61,9 +94,50 @@ public class ProfileServiceImpl implements ProfileService{
      * @param profileId 프로필 식별자
      * @return 마이프로필
      */
-    public Profile getMyProfile(Long profileId){
+    public ProfileResponse.GetMyProfileDTO getMyProfile(Long profileId){
+
+        return getMyProfile(profileId, FieldSet.all());
+    }
+
+    /**
+     * 마이프로필 단건 조회 (응답에 필요한 연관관계만 조회)
+     * @param profileId 프로필 식별자
+     * @param fieldSet 응답 필드 목록
+     * @return 마이프로필
+     */
+    public ProfileResponse.GetMyProfileDTO getMyProfile(Long profileId, FieldSet fieldSet){
+
+        Optional<Profile> profile;
+        if (fieldSet.includes("front_features") || fieldSet.includes("back_features")) {
+            profile = profileRepository.findWithFeaturesById(profileId);
+        } else if (fieldSet.includes("profile_image")) {
+            profile = profileRepository.findWithImageById(profileId);
+        } else {
+            profile = profileRepository.findById(profileId);
+        }
+
+        return ProfileConverter.toGetMyProfileDTO(profile.orElseThrow(() -> new GeneralException(ErrorStatus.PROFILE_NOT_FOUND)), fieldSet);
+    }
+
+    /**
+     * 내 마이프로필 목록 버전 조회 (ETag 계산용)
+     * @param tokenClaimsDTO 멤버 식별자
+     * @return 버전 문자열
+     */
+    public String getMyProfilesVersion(TokenDTO.tokenClaimsDTO tokenClaimsDTO){
+        // 멤버 엔티티를 읽지 않고 버전 쿼리 하나로 끝낸다
+        return profileRepository.findVersionByEmailAndSocial(tokenClaimsDTO.getEmail(), tokenClaimsDTO.getSocial().name())
+                .orElseThrow(() -> new GeneralException(ErrorStatus.MEMBER_NOT_FOUND));
+    }
 
-        return profileRepository.findById(profileId).get();
+    /**
+     * 마이프로필 단건 버전 조회 (ETag 계산용)
+     * @param profileId 프로필 식별자
+     * @return 버전 문자열
+     */
+    public String getMyProfileVersion(Long profileId){
+
+        return profileRepository.findVersionById(profileId);
     }
 
     /**
@@ -83,9 +157,10 @@ public class ProfileServiceImpl implements ProfileService{
         }
 
         Profile newProfile = ProfileConverter.toProfile(generateSerialNumber());
-        ProfileImage profileImage = ProfileImageConverter.toProfileImage(newProfile, member.getSpace());
+        Space space = spaceRepository.findByMember(member).orElse(null);
 
         newProfile.setMember(member);
+        newProfile.setProfileImage(ProfileImageConverter.toProfileImage(space));
 
         int DEFAULT_FRONT_FEATURE_SIZE = 2;
         int DEFAULT_BACK_FEATURE_SIZE = 5;
@@ -95,7 +170,7 @@ public class ProfileServiceImpl implements ProfileService{
         }
 
         profileRepository.save(newProfile);
-        profileImageRepository.save(profileImage);
+        existenceFilterService.recordSerialNumber(newProfile.getSerialNumber());
 
         return newProfile;
     }
@@ -144,7 +219,7 @@ public class ProfileServiceImpl implements ProfileService{
      * @return 수정된 마이프로필 이미지
      */
     @Transactional
-    public ProfileImage updateMyProfileImage(TokenDTO.tokenClaimsDTO tokenClaimsDTO, Long profileId, MultipartFile image, ProfileRequest.UpdateProfileImageDTO request){
+    public ProfileResponse.UpdateMyProfileImageDTO updateMyProfileImage(TokenDTO.tokenClaimsDTO tokenClaimsDTO, Long profileId, MultipartFile image, ProfileRequest.UpdateProfileImageDTO request){
 
         Member member = memberService.findMember(tokenClaimsDTO);
         Profile profile = profileRepository.findById(profileId).get();
@@ -163,19 +238,17 @@ public class ProfileServiceImpl implements ProfileService{
                 profileImage.update(profileImageType, s3ResponseDto.getImgUrl());
             }
             case CHARACTER -> {
-                boolean illegalChangeToCharacter = (member.getSpace() == null);
-                if(illegalChangeToCharacter){
-                    throw new GeneralException(ErrorStatus.PROFILE_IMAGE_CANNOT_CHANGE_TO_CHARACTER);
-                }
+                Space space = spaceRepository.findByMember(member)
+                        .orElseThrow(() -> new GeneralException(ErrorStatus.PROFILE_IMAGE_CANNOT_CHANGE_TO_CHARACTER));
 
-                profileImage.update(profileImageType, member.getSpace());
+                profileImage.update(profileImageType, space);
             }
             default -> {
                 profileImage.update(profileImageType);
             }
         }
 
-        return profileImage;
+        return ProfileConverter.toUpdateMyProfileImageDTO(profileImage);
     }
 
     /**
@@ -192,6 +265,12 @@ public class ProfileServiceImpl implements ProfileService{
             throw new GeneralException(ErrorStatus.PROFILE_NOT_MATCH_MEMBER_AT_DELETE);
         }
 
+        // 보관함 행을 먼저 일괄 삭제하고 삭제된 만큼 공유 현황 차감 (보관함 목록 전체를 읽지 않는다)
+        int sharedNum = memberProfileRepository.deleteAllByProfileId(profile.getId());
+        if(sharedNum > 0){
+            memberRepository.addProfileSharedNum(member.getId(), -sharedNum);
+        }
+
         profileRepository.delete(profile);
     }
 
@@ -205,12 +284,12 @@ public class ProfileServiceImpl implements ProfileService{
 
         int serialNumber = generator.nextInt(1000000) % 1000000;
 
-        // 중복 확인
-        boolean isDuplicated = profileRepository.findBySerialNumber(serialNumber).isPresent();
+        // 중복 확인 (필터에 없는 번호는 DB 조회 없이 바로 쓴다)
+        boolean isDuplicated = existenceFilterService.existsSerialNumber(serialNumber);
         while(isDuplicated){
             serialNumber = generator.nextInt(1000000) % 1000000;
 
-            isDuplicated = profileRepository.findBySerialNumber(serialNumber).isPresent();
+            isDuplicated = existenceFilterService.existsSerialNumber(serialNumber);
         }
 
         return serialNumber;
@@ -249,12 +328,36 @@ public class ProfileServiceImpl implements ProfileService{
     /**
      * 프로필 검색
      * @param serialNumber 시리얼 넘버
+     * @param visitor 검색한 멤버 (없으면 방문자로 집계하지 않는다)
      * @return 검색된 프로필
      */
-    public Profile searchProfile(int serialNumber){
+    public ProfileResponse.SearchProfileDTO searchProfile(int serialNumber, TokenDTO.tokenClaimsDTO visitor){
 
-        Profile profile = profileRepository.findBySerialNumber(serialNumber).get();
+        Profile profile = profileRepository.findWithFeaturesBySerialNumber(serialNumber)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.PROFILE_NOT_FOUND));
 
-        return profile;
+        if (visitor != null) {
+            Member member = memberService.findMember(visitor);
+            // 본인 프로필 검색은 방문으로 세지 않는다
+            if (!profile.getMember().getId().equals(member.getId())) {
+                profileVisitorService.recordVisit(profile.getId(), member.getId());
+            }
+        }
+
+        return ProfileConverter.toSearchProfile(profile);
+    }
+
+    /**
+     * 프로필 일괄 검색
+     * @param serialNumberList 시리얼 넘버 목록
+     * @return 요청 순서대로 검색된 프로필 목록과 존재하지 않는 시리얼 넘버 목록
+     */
+    public ProfileResponse.SearchProfileListDTO searchProfiles(List<Integer> serialNumberList){
+
+        List<Profile> profileList = profileRepository.findAllWithFeaturesBySerialNumberIn(serialNumberList.stream()
+                .distinct()
+                .toList());
+
+        return ProfileConverter.toSearchProfileListDTO(serialNumberList, profileList);
     }
 }
@@ -0,0 +1,90 @@
+package com.example.aboutme.service.ProfileVisitorService;
+
+/**
+ * 고유 방문자 수 추정용 HyperLogLog (레지스터 2^11 개, 표준 오차 약 2.3%)
+ * 방문자가 몇 명이든 REGISTER_COUNT 바이트만 차지하며, 레지스터별 최댓값으로 합치면 합집합의 추정치가 된다.
+ * 스레드 안전하지 않으므로 호출하는 쪽에서 동기화한다.
+ */
+final class HyperLogLog {
+
+    static final int PRECISION = 11;
+    static final int REGISTER_COUNT = 1 << PRECISION;
+
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTER_COUNT);
+
+    private final byte[] registers;
+
+    HyperLogLog() {
+        this(new byte[REGISTER_COUNT]);
+    }
+
+    private HyperLogLog(byte[] registers) {
+        this.registers = registers;
+    }
+
+    static HyperLogLog fromBytes(byte[] bytes) {
+        if (bytes.length != REGISTER_COUNT) {
+            throw new IllegalArgumentException("HyperLogLog 레지스터 크기가 다릅니다: " + bytes.length);
+        }
+        return new HyperLogLog(bytes.clone());
+    }
+
+    byte[] toBytes() {
+        return registers.clone();
+    }
+
+    /**
+     * @return 레지스터가 바뀌었으면 true (이미 본 값이면 false)
+     */
+    boolean add(long value) {
+        long hash = mix(value);
+        int index = (int) (hash >>> (Long.SIZE - PRECISION));
+        // 인덱스로 쓴 상위 비트를 뺀 나머지에서 처음 1 이 나오는 위치 (최대 Long.SIZE - PRECISION + 1)
+        byte rank = (byte) (Long.numberOfLeadingZeros((hash << PRECISION) | (1L << (PRECISION - 1))) + 1);
+
+        if (rank > registers[index]) {
+            registers[index] = rank;
+            return true;
+        }
+        return false;
+    }
+
+    void merge(HyperLogLog other) {
+        for (int i = 0; i < REGISTER_COUNT; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+    }
+
+    long estimate() {
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+
+        // 적은 수에서는 비어 있는 레지스터 비율로 세는 linear counting 이 더 정확하다
+        // (보정 표 없이 쓰는 원래 추정치는 2.5m 근처까지 위로 치우쳐 있어, 오차가 역전되는 2.75m 에서 바꾼다)
+        if (zeros > 0) {
+            double linearCounting = REGISTER_COUNT * Math.log((double) REGISTER_COUNT / zeros);
+            if (linearCounting <= 2.75 * REGISTER_COUNT) {
+                return Math.round(linearCounting);
+            }
+        }
+        return Math.round(ALPHA * REGISTER_COUNT * REGISTER_COUNT / sum);
+    }
+
+    // 연속된 멤버 식별자도 고르게 퍼지도록 섞는다 (MurmurHash3 fmix64)
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
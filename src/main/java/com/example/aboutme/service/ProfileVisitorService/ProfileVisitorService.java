@@ -0,0 +1,9 @@
+package com.example.aboutme.service.ProfileVisitorService;
+
+public interface ProfileVisitorService {
+    void recordVisit(Long profileId, Long memberId);
+
+    long estimateMemberVisitors(Long memberId);
+
+    int flushPendingSketches();
+}
@@ -0,0 +1,145 @@
+package com.example.aboutme.service.ProfileVisitorService;
+
+import com.example.aboutme.domain.ProfileVisitorSketch;
+import com.example.aboutme.repository.ProfileVisitorSketchRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 프로필 고유 방문자 수
+ * 방문마다 행을 남기지 않고 프로필별 HyperLogLog 스케치에 방문한 멤버 식별자를 넣는다.
+ * 메모리의 스케치는 flushPendingSketches 가 주기적으로 저장된 스케치와 합치며, 다른 서버의 스케치도 같은 행에 합쳐진다.
+ * 조회 결과는 저장된 스케치에 아직 저장되지 않은 이 서버의 스케치를 합쳐 추정한다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class ProfileVisitorServiceImpl implements ProfileVisitorService {
+
+    private final ProfileVisitorSketchRepository profileVisitorSketchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Map<Long, HyperLogLog> pendingSketches = new ConcurrentHashMap<>();
+    private final int batchSize;
+
+    public ProfileVisitorServiceImpl(ProfileVisitorSketchRepository profileVisitorSketchRepository,
+                                     PlatformTransactionManager transactionManager,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${profile-visitor.batch-size:500}") int batchSize) {
+        this.profileVisitorSketchRepository = profileVisitorSketchRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+
+        Gauge.builder("profile.visitors.pending.profiles", pendingSketches, Map::size)
+                .register(meterRegistry);
+    }
+
+    public void recordVisit(Long profileId, Long memberId) {
+        // compute 는 같은 키에 대해 직렬화되므로 스케치 하나를 여러 스레드가 동시에 바꾸지 않는다
+        pendingSketches.compute(profileId, (key, sketch) -> {
+            HyperLogLog target = sketch == null ? new HyperLogLog() : sketch;
+            target.add(memberId);
+            return target;
+        });
+    }
+
+    public long estimateMemberVisitors(Long memberId) {
+        // 멤버의 모든 프로필 스케치를 합치면 중복 없이 센 방문자 수가 된다
+        HyperLogLog union = new HyperLogLog();
+        for (Object[] row : profileVisitorSketchRepository.findSketchesByMemberId(memberId)) {
+            Long profileId = (Long) row[0];
+            byte[] stored = (byte[]) row[1];
+            if (stored != null) {
+                union.merge(HyperLogLog.fromBytes(stored));
+            }
+            pendingSketches.computeIfPresent(profileId, (key, sketch) -> {
+                union.merge(sketch);
+                return sketch;
+            });
+        }
+
+        return union.estimate();
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int flushPendingSketches() {
+        Map<Long, HyperLogLog> batch = new HashMap<>();
+        int flushed = 0;
+
+        for (Long profileId : pendingSketches.keySet()) {
+            HyperLogLog sketch = pendingSketches.remove(profileId);
+            if (sketch != null) {
+                batch.put(profileId, sketch);
+            }
+            if (batch.size() >= batchSize) {
+                flushed += save(batch);
+                batch = new HashMap<>();
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            flushed += save(batch);
+        }
+        return flushed;
+    }
+
+    // 종료 전에 저장되지 않은 스케치를 저장한다
+    @PreDestroy
+    public void flushOnShutdown() {
+        int flushed = flushPendingSketches();
+        if (flushed > 0) {
+            log.info("종료 전 프로필 방문자 스케치 저장: profiles={}", flushed);
+        }
+    }
+
+    private int save(Map<Long, HyperLogLog> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> merge(batch));
+        } catch (DataAccessException e) {
+            // 다른 서버가 같은 프로필의 첫 행을 먼저 넣은 경우 등은 다음 주기에 다시 합친다
+            log.warn("프로필 방문자 스케치 저장 실패, 다음 주기에 재시도: profiles={}, error={}", batch.size(), e.getMessage());
+            batch.forEach((profileId, sketch) -> pendingSketches.merge(profileId, sketch, (current, failed) -> {
+                current.merge(failed);
+                return current;
+            }));
+            meterRegistry.counter("profile.visitors.flush.failures").increment();
+            return 0;
+        }
+
+        meterRegistry.counter("profile.visitors.flushed").increment(batch.size());
+        return batch.size();
+    }
+
+    private void merge(Map<Long, HyperLogLog> batch) {
+        Map<Long, HyperLogLog> remaining = new HashMap<>(batch);
+
+        for (ProfileVisitorSketch stored : profileVisitorSketchRepository.findAllForUpdateByProfileIdIn(batch.keySet())) {
+            HyperLogLog merged = HyperLogLog.fromBytes(stored.getSketch());
+            merged.merge(remaining.remove(stored.getProfileId()));
+            stored.updateSketch(merged.toBytes());
+        }
+
+        List<ProfileVisitorSketch> created = new ArrayList<>(remaining.size());
+        remaining.forEach((profileId, sketch) -> created.add(ProfileVisitorSketch.builder()
+                .profileId(profileId)
+                .sketch(sketch.toBytes())
+                .build()));
+        profileVisitorSketchRepository.saveAll(created);
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.aboutme.service.RankingService;
+
+import com.example.aboutme.app.dto.RankingResponse;
+
+public interface RankingService {
+    void recordSpaceSaved(Long spaceId, int delta);
+
+    void recordProfileSaved(Long profileId, int delta);
+
+    RankingResponse.RankingDTO getRanking();
+
+    void rebuild();
+}
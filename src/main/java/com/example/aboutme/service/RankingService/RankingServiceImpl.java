@@ -0,0 +1,120 @@
+package com.example.aboutme.service.RankingService;
+
+import com.example.aboutme.app.dto.RankingResponse;
+import com.example.aboutme.converter.RankingConverter;
+import com.example.aboutme.domain.Profile;
+import com.example.aboutme.domain.Space;
+import com.example.aboutme.repository.ProfileRepository;
+import com.example.aboutme.repository.SpaceRepository;
+import com.example.aboutme.service.AfterCommit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 가장 많이 저장된 스페이스(아지트), 프로필(보관함) 순위
+ * 추가·삭제가 커밋된 뒤에 메모리의 저장 수와 상위 목록만 고치므로, 조회할 때 매핑 테이블을 집계하지 않는다.
+ * 다른 서버에서 일어난 추가·삭제와 탈퇴 정리의 일괄 삭제는 rebuild 가 주기적으로 DB 에서 다시 읽어 반영한다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class RankingServiceImpl implements RankingService {
+
+    private static final String SPACE_COUNT_SQL = "select space_id, count(*) from member_space group by space_id";
+    private static final String PROFILE_COUNT_SQL = "select profile_id, count(*) from member_profile group by profile_id";
+
+    private final SpaceRepository spaceRepository;
+    private final ProfileRepository profileRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TopK spaceTop;
+    private final TopK profileTop;
+
+    public RankingServiceImpl(SpaceRepository spaceRepository,
+                              ProfileRepository profileRepository,
+                              JdbcTemplate jdbcTemplate,
+                              @Value("${ranking.size:20}") int size) {
+        this.spaceRepository = spaceRepository;
+        this.profileRepository = profileRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.spaceTop = new TopK(size);
+        this.profileTop = new TopK(size);
+    }
+
+    // 롤백된 추가·삭제가 순위에 반영되지 않도록 커밋된 뒤에 고친다
+    public void recordSpaceSaved(Long spaceId, int delta) {
+        AfterCommit.run(() -> spaceTop.add(spaceId, delta));
+    }
+
+    public void recordProfileSaved(Long profileId, int delta) {
+        AfterCommit.run(() -> profileTop.add(profileId, delta));
+    }
+
+    public RankingResponse.RankingDTO getRanking() {
+        List<TopK.Entry> spaceEntries = spaceTop.top();
+        List<TopK.Entry> profileEntries = profileTop.top();
+
+        // 상위 목록에 있는 식별자만 기본 키로 조회한다 (다음 rebuild 전까지 삭제된 항목은 건너뛴다)
+        Map<Long, Space> spaceMap = spaceRepository.findAllById(ids(spaceEntries)).stream()
+                .collect(Collectors.toMap(Space::getId, Function.identity()));
+        Map<Long, Profile> profileMap = profileRepository.findAllById(ids(profileEntries)).stream()
+                .collect(Collectors.toMap(Profile::getId, Function.identity()));
+
+        List<RankingResponse.SpaceRankDTO> spaceRankList = new ArrayList<>();
+        for (TopK.Entry entry : spaceEntries) {
+            Space space = spaceMap.get(entry.id());
+            if (space != null) {
+                spaceRankList.add(RankingConverter.toSpaceRankDTO(spaceRankList.size() + 1, space, entry.count()));
+            }
+        }
+
+        List<RankingResponse.ProfileRankDTO> profileRankList = new ArrayList<>();
+        for (TopK.Entry entry : profileEntries) {
+            Profile profile = profileMap.get(entry.id());
+            if (profile != null) {
+                profileRankList.add(RankingConverter.toProfileRankDTO(profileRankList.size() + 1, profile, entry.count()));
+            }
+        }
+
+        return RankingConverter.toRankingDTO(spaceRankList, profileRankList);
+    }
+
+    /**
+     * DB 의 저장 수로 순위를 다시 만든다 (기동 시, 주기적으로만 호출)
+     * 집계하는 동안 커밋된 증감은 다음 rebuild 에서 바로잡힌다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void rebuild() {
+        Map<Long, Long> spaceCounts = loadCounts(SPACE_COUNT_SQL);
+        Map<Long, Long> profileCounts = loadCounts(PROFILE_COUNT_SQL);
+
+        spaceTop.reset(spaceCounts);
+        profileTop.reset(profileCounts);
+
+        log.info("저장 순위 재계산 완료: spaces={}, profiles={}", spaceCounts.size(), profileCounts.size());
+    }
+
+    private Map<Long, Long> loadCounts(String sql) {
+        Map<Long, Long> counts = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            counts.put(rs.getLong(1), rs.getLong(2));
+        });
+        return counts;
+    }
+
+    private static List<Long> ids(List<TopK.Entry> entries) {
+        return entries.stream()
+                .map(TopK.Entry::id)
+                .collect(Collectors.toList());
+    }
+}
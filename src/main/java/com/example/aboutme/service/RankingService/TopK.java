@@ -0,0 +1,87 @@
+package com.example.aboutme.service.RankingService;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 식별자별 저장 수와 상위 capacity 개 목록
+ * 증감은 한 번에 하나씩 반영하고, 조회는 마지막으로 만든 목록을 잠금 없이 돌려준다.
+ * 상위 목록은 보통 capacity 크기 안에서만 고치고, 상위 항목의 수가 줄어 밖의 항목에 밀릴 수 있을 때만
+ * 전체 저장 수를 capacity 크기 힙으로 한 번 훑어 다시 만든다.
+ */
+final class TopK {
+
+    // 저장 수 내림차순, 같으면 먼저 생긴(식별자가 작은) 항목 먼저
+    static final Comparator<Entry> ORDER = Comparator.comparingLong(Entry::count).reversed()
+            .thenComparing(Entry::id);
+
+    private final int capacity;
+    private final Map<Long, Long> counts = new HashMap<>();
+    private volatile List<Entry> top = List.of();
+
+    TopK(int capacity) {
+        this.capacity = capacity;
+    }
+
+    List<Entry> top() {
+        return top;
+    }
+
+    synchronized void add(Long id, long delta) {
+        long count = counts.merge(id, delta, Long::sum);
+        if (count <= 0) {
+            counts.remove(id);
+        }
+
+        List<Entry> current = top;
+        boolean inTop = current.stream().anyMatch(entry -> entry.id().equals(id));
+
+        if (delta < 0 || count <= 0) {
+            if (inTop) {
+                top = rebuild();
+            }
+            return;
+        }
+
+        Entry updated = new Entry(id, count);
+        if (!inTop && current.size() == capacity && ORDER.compare(updated, current.get(capacity - 1)) > 0) {
+            return;
+        }
+
+        List<Entry> next = new ArrayList<>(current.size() + 1);
+        current.stream()
+                .filter(entry -> !entry.id().equals(id))
+                .forEach(next::add);
+        next.add(updated);
+        next.sort(ORDER);
+        top = List.copyOf(next.size() > capacity ? next.subList(0, capacity) : next);
+    }
+
+    synchronized void reset(Map<Long, Long> loaded) {
+        counts.clear();
+        counts.putAll(loaded);
+        top = rebuild();
+    }
+
+    private List<Entry> rebuild() {
+        // 힙의 머리가 상위 목록에서 가장 낮은 항목이 되도록 순서를 뒤집는다
+        PriorityQueue<Entry> heap = new PriorityQueue<>(capacity + 1, ORDER.reversed());
+        counts.forEach((id, count) -> {
+            heap.add(new Entry(id, count));
+            if (heap.size() > capacity) {
+                heap.poll();
+            }
+        });
+
+        List<Entry> rebuilt = new ArrayList<>(heap);
+        rebuilt.sort(ORDER);
+        return List.copyOf(rebuilt);
+    }
+
+    record Entry(Long id, long count) {
+    }
+}
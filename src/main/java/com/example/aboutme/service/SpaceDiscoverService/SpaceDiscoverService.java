@@ -0,0 +1,8 @@
+package com.example.aboutme.service.SpaceDiscoverService;
+
+import com.example.aboutme.app.dto.SpaceResponse;
+import com.example.aboutme.domain.constant.Mood;
+
+public interface SpaceDiscoverService {
+    SpaceResponse.DiscoverPageDTO discoverSpaces(Mood mood, Integer roomType, Long cursor, int size);
+}
@@ -0,0 +1,71 @@
+package com.example.aboutme.service.SpaceDiscoverService;
+
+import com.example.aboutme.app.dto.SpaceResponse;
+import com.example.aboutme.converter.SpaceConverter;
+import com.example.aboutme.domain.constant.Mood;
+import com.example.aboutme.repository.SpaceRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 스페이스 둘러보기
+ * 기분, 방 타입 필터 조합마다 전용 인덱스로 id 내림차순 키셋 조회를 한다.
+ * 모두가 가장 많이 보는 필터별 첫 페이지는 짧게 캐시해서, 새 스페이스는 TTL 안에 반영된다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class SpaceDiscoverServiceImpl implements SpaceDiscoverService {
+
+    private final SpaceRepository spaceRepository;
+    private final Cache<Filter, SpaceResponse.DiscoverPageDTO> firstPageCache;
+    private final int pageSize;
+
+    public SpaceDiscoverServiceImpl(SpaceRepository spaceRepository,
+                                    @Value("${space-discover.page-size:20}") int pageSize,
+                                    @Value("${space-discover.first-page-ttl-seconds:30}") long firstPageTtlSeconds) {
+        this.spaceRepository = spaceRepository;
+        this.pageSize = pageSize;
+        // 필터 조합은 (기분 5개 + 없음) x (방 타입 4개 + 없음) 로 한정된다
+        this.firstPageCache = Caffeine.newBuilder()
+                .maximumSize((Mood.values().length + 1) * 5L)
+                .expireAfterWrite(Duration.ofSeconds(firstPageTtlSeconds))
+                .build();
+    }
+
+    public SpaceResponse.DiscoverPageDTO discoverSpaces(Mood mood, Integer roomType, Long cursor, int size) {
+        Filter filter = new Filter(mood, roomType);
+
+        if (cursor == null && size == pageSize) {
+            return firstPageCache.get(filter, key -> readPage(key, Long.MAX_VALUE, size));
+        }
+        return readPage(filter, cursor == null ? Long.MAX_VALUE : cursor, size);
+    }
+
+    private SpaceResponse.DiscoverPageDTO readPage(Filter filter, Long cursor, int size) {
+        Pageable pageable = PageRequest.of(0, size);
+
+        List<SpaceResponse.DiscoverSpaceDTO> spaceList;
+        if (filter.mood() != null && filter.roomType() != null) {
+            spaceList = spaceRepository.findDiscoverPageByMoodAndRoomType(filter.mood(), filter.roomType(), cursor, pageable);
+        } else if (filter.mood() != null) {
+            spaceList = spaceRepository.findDiscoverPageByMood(filter.mood(), cursor, pageable);
+        } else if (filter.roomType() != null) {
+            spaceList = spaceRepository.findDiscoverPageByRoomType(filter.roomType(), cursor, pageable);
+        } else {
+            spaceList = spaceRepository.findDiscoverPage(cursor, pageable);
+        }
+
+        return SpaceConverter.toDiscoverPageDTO(spaceList, size);
+    }
+
+    private record Filter(Mood mood, Integer roomType) {
+    }
+}
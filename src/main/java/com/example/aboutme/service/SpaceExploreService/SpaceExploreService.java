@@ -0,0 +1,13 @@
+package com.example.aboutme.service.SpaceExploreService;
+
+import com.example.aboutme.app.dto.SpaceResponse;
+
+public interface SpaceExploreService {
+    SpaceResponse.ExploreDTO exploreSpaces(Long memberId, int size);
+
+    void recordCreated(Long spaceId);
+
+    void recordDeleted(Long spaceId);
+
+    void refresh();
+}
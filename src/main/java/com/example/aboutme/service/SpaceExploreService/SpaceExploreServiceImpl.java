@@ -0,0 +1,92 @@
+package com.example.aboutme.service.SpaceExploreService;
+
+import com.example.aboutme.app.dto.SpaceResponse;
+import com.example.aboutme.converter.SpaceConverter;
+import com.example.aboutme.domain.Space;
+import com.example.aboutme.repository.MemberSpaceRepository;
+import com.example.aboutme.repository.SpaceRepository;
+import com.example.aboutme.service.AfterCommit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 무작위 스페이스 둘러보기
+ * 살아 있는 스페이스 식별자를 메모리 배열로 들고 있다가 무작위 위치를 골라, DB 에는 고른 스페이스만 기본 키로 조회한다.
+ * 배열은 스페이스 생성·삭제가 커밋된 뒤에 고치고, 다른 서버의 변경과 탈퇴 정리의 일괄 삭제는 refresh 가 주기적으로 반영한다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class SpaceExploreServiceImpl implements SpaceExploreService {
+
+    private final SpaceRepository spaceRepository;
+    private final MemberSpaceRepository memberSpaceRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final SpaceIdSampler sampler = new SpaceIdSampler();
+
+    public SpaceExploreServiceImpl(SpaceRepository spaceRepository,
+                                   MemberSpaceRepository memberSpaceRepository,
+                                   JdbcTemplate jdbcTemplate) {
+        this.spaceRepository = spaceRepository;
+        this.memberSpaceRepository = memberSpaceRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 무작위 스페이스 조회
+     * 내 스페이스와 이미 아지트에 추가한 스페이스는 제외한다.
+     * @param memberId 멤버 식별자
+     * @param size 최대 개수
+     * @return 무작위로 고른 스페이스 목록
+     */
+    public SpaceResponse.ExploreDTO exploreSpaces(Long memberId, int size) {
+        Set<Long> excluded = new HashSet<>(memberSpaceRepository.findSpaceIdsByMemberId(memberId));
+        spaceRepository.findIdByMemberId(memberId).ifPresent(excluded::add);
+
+        List<Long> spaceIds = sampler.sample(size, excluded, ThreadLocalRandom.current());
+        Map<Long, Space> spaceMap = spaceRepository.findAllById(spaceIds).stream()
+                .collect(Collectors.toMap(Space::getId, Function.identity()));
+
+        // 다음 refresh 전까지 배열에 남아 있는 삭제된 스페이스는 건너뛴다
+        List<SpaceResponse.DiscoverSpaceDTO> spaceList = new ArrayList<>();
+        for (Long spaceId : spaceIds) {
+            Space space = spaceMap.get(spaceId);
+            if (space != null) {
+                spaceList.add(SpaceConverter.toDiscoverSpaceDTO(space));
+            }
+        }
+
+        return SpaceConverter.toExploreDTO(spaceList);
+    }
+
+    public void recordCreated(Long spaceId) {
+        AfterCommit.run(() -> sampler.add(spaceId));
+    }
+
+    public void recordDeleted(Long spaceId) {
+        AfterCommit.run(() -> sampler.remove(spaceId));
+    }
+
+    /**
+     * DB 의 스페이스 식별자로 배열을 다시 채운다 (기동 시, 주기적으로만 호출)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void refresh() {
+        List<Long> spaceIds = jdbcTemplate.queryForList("select id from space", Long.class);
+        sampler.reset(spaceIds);
+
+        log.info("무작위 둘러보기 스페이스 목록 갱신: spaces={}", spaceIds.size());
+    }
+}
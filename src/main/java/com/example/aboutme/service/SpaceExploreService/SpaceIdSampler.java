@@ -0,0 +1,92 @@
+package com.example.aboutme.service.SpaceExploreService;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.random.RandomGenerator;
+
+/**
+ * 살아 있는 스페이스 식별자를 빈칸 없이 채운 배열
+ * 무작위 위치 하나를 고르면 균등한 표본이 되고, 삭제는 마지막 원소를 빈자리로 옮겨 O(1) 로 처리한다.
+ */
+final class SpaceIdSampler {
+
+    private long[] ids = new long[16];
+    private int size;
+    private final Map<Long, Integer> positions = new HashMap<>();
+
+    synchronized int size() {
+        return size;
+    }
+
+    synchronized void add(long id) {
+        if (positions.containsKey(id)) {
+            return;
+        }
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        ids[size] = id;
+        positions.put(id, size);
+        size++;
+    }
+
+    synchronized void remove(long id) {
+        Integer position = positions.remove(id);
+        if (position == null) {
+            return;
+        }
+
+        long last = ids[--size];
+        if (position != size) {
+            ids[position] = last;
+            positions.put(last, position);
+        }
+    }
+
+    synchronized void reset(Collection<Long> loaded) {
+        ids = new long[Math.max(16, loaded.size())];
+        size = 0;
+        positions.clear();
+        loaded.forEach(this::add);
+    }
+
+    /**
+     * excluded 에 없는 식별자를 중복 없이 최대 count 개 고른다
+     * 제외할 식별자가 적으면 무작위 위치를 몇 번 다시 뽑는 것으로 충분하고,
+     * 남은 후보가 count 에 가까울 만큼 적을 때만 배열을 훑어 후보를 모은다.
+     */
+    synchronized List<Long> sample(int count, Set<Long> excluded, RandomGenerator random) {
+        Set<Long> picked = new LinkedHashSet<>();
+        int maxAttempts = count * 8;
+
+        for (int attempt = 0; attempt < maxAttempts && picked.size() < count && size > 0; attempt++) {
+            long id = ids[random.nextInt(size)];
+            if (!excluded.contains(id)) {
+                picked.add(id);
+            }
+        }
+
+        if (picked.size() < count) {
+            List<Long> candidates = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                if (!excluded.contains(ids[i]) && !picked.contains(ids[i])) {
+                    candidates.add(ids[i]);
+                }
+            }
+            while (picked.size() < count && !candidates.isEmpty()) {
+                int index = random.nextInt(candidates.size());
+                picked.add(candidates.get(index));
+                candidates.set(index, candidates.get(candidates.size() - 1));
+                candidates.remove(candidates.size() - 1);
+            }
+        }
+
+        return new ArrayList<>(picked);
+    }
+}
@@ -1,26 +1,34 @@
 package com.example.aboutme.service.SpaceService;
 
+import com.example.aboutme.Login.jwt.TokenDTO;
+import com.example.aboutme.apiPayload.FieldSet;
 import com.example.aboutme.app.dto.PlanRequest;
+import com.example.aboutme.app.dto.PlanResponse;
 import com.example.aboutme.app.dto.SpaceRequest;
+import com.example.aboutme.app.dto.SpaceResponse;
 import com.example.aboutme.domain.Member;
 import com.example.aboutme.domain.Space;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.text.ParseException;
+import java.time.LocalDate;
 import java.util.Optional;
 
 public interface SpaceService {
     Space JoinSpace(Long memberId, SpaceRequest.JoinDTO request);
 
-    Space readSpace(Long memberId);
+    SpaceResponse.ReadResultDTO readSpace(Long memberId, FieldSet fieldSet);
+
+    String readSpaceVersion(TokenDTO.tokenClaimsDTO tokenClaimsDTO);
 
     void deleteSpace(Long memberId);
 
-    Space updateResult(Long memberId, SpaceRequest.UpdateDTO request);
+    SpaceResponse.UpdateResultDTO updateResult(Long memberId, SpaceRequest.UpdateDTO request);
     
-    Space createPlan(Long memberId, PlanRequest.CreatePlanDTO request) throws ParseException;
+    PlanResponse.planDTO createPlan(Long memberId, PlanRequest.CreatePlanDTO request);
+
+    PlanResponse.PlanPageDTO getPlans(Long memberId, LocalDate from, LocalDate to, Long cursor, int size);
 
-    Space uploadImage(Long memberId, MultipartFile multipartFile);
+    SpaceResponse.ReadResultDTO uploadImage(Long memberId, MultipartFile multipartFile);
 
     Space searchSpace(String keyword);
 
@@ -1,36 +1,76 @@
 package com.example.aboutme.service.SpaceService;
 
+import com.example.aboutme.Login.jwt.TokenDTO;
+import com.example.aboutme.apiPayload.FieldSet;
 import com.example.aboutme.apiPayload.code.status.ErrorStatus;
 import com.example.aboutme.apiPayload.exception.GeneralException;
 import com.example.aboutme.app.dto.PlanRequest;
+import com.example.aboutme.app.dto.PlanResponse;
 import com.example.aboutme.app.dto.SpaceRequest;
+import com.example.aboutme.app.dto.SpaceResponse;
 import com.example.aboutme.aws.s3.S3ResponseDto;
 import com.example.aboutme.aws.s3.S3Service;
 import com.example.aboutme.converter.PlanConverter;
 import com.example.aboutme.converter.SpaceConverter;
 import com.example.aboutme.converter.SpaceImageConverter;
 import com.example.aboutme.domain.Member;
+import com.example.aboutme.domain.Plan;
 import com.example.aboutme.domain.Space;
 import com.example.aboutme.domain.constant.Mood;
+import com.example.aboutme.repository.PlanRepository;
 import com.example.aboutme.repository.SpaceRepository;
+import com.example.aboutme.service.ExistenceFilterService.ExistenceFilterService;
 import com.example.aboutme.service.MemberService.MemberService;
-import lombok.AllArgsConstructor;
+import com.example.aboutme.service.SpaceExploreService.SpaceExploreService;
+import com.example.aboutme.service.SpaceViewService.SpaceViewService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.text.ParseException;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.Optional;
 
 @Slf4j
 @Service
 @Transactional(readOnly = true)
-@AllArgsConstructor
 public class SpaceServiceImpl implements SpaceService {
     private final SpaceRepository spaceRepository;
+    private final PlanRepository planRepository;
     private final MemberService memberService;
     private final S3Service s3Service;
+    private final SpaceViewService spaceViewService;
+    private final SpaceExploreService spaceExploreService;
+    private final ExistenceFilterService existenceFilterService;
+    private final int upcomingDays;
+    private final int upcomingSize;
+    private final int maxRangeDays;
+
+    public SpaceServiceImpl(SpaceRepository spaceRepository,
+                            PlanRepository planRepository,
+                            MemberService memberService,
+                            S3Service s3Service,
+                            SpaceViewService spaceViewService,
+                            SpaceExploreService spaceExploreService,
+                            ExistenceFilterService existenceFilterService,
+                            @Value("${plan.upcoming-days:30}") int upcomingDays,
+                            @Value("${plan.upcoming-size:20}") int upcomingSize,
+                            @Value("${plan.max-range-days:92}") int maxRangeDays) {
+        this.spaceRepository = spaceRepository;
+        this.planRepository = planRepository;
+        this.memberService = memberService;
+        this.s3Service = s3Service;
+        this.spaceViewService = spaceViewService;
+        this.spaceExploreService = spaceExploreService;
+        this.existenceFilterService = existenceFilterService;
+        this.upcomingDays = upcomingDays;
+        this.upcomingSize = upcomingSize;
+        this.maxRangeDays = maxRangeDays;
+    }
 
     /**
      * 내 마이프로필 생성
@@ -44,18 +84,41 @@ public class SpaceServiceImpl implements SpaceService {
             throw new GeneralException(ErrorStatus.SPACE_ALREADY_EXIST);
         }
 
-        Space newSpace = SpaceConverter.toSpace(member, request);
-        return spaceRepository.save(newSpace);
+        Space newSpace = spaceRepository.save(SpaceConverter.toSpace(member, request));
+        spaceExploreService.recordCreated(newSpace.getId());
+        if (newSpace.getNickname() != null) existenceFilterService.recordSpaceNickname(newSpace.getNickname());
+        return newSpace;
     }
 
     /**
      * 내 마이프로필 조회
+     * 계획, 이미지 목록은 요청한 경우에만 트랜잭션 안에서 읽는다 (이미지는 컬렉션 2차 캐시 사용)
+     * 계획은 오늘부터 upcoming-days 일 안의 것을 최대 upcoming-size 개만 담는다
      * @param memberId 멤버 식별자
+     * @param fieldSet 응답 필드 목록
      * @return 조회된 마이스페이스의 특징
      */
-    public Space readSpace(Long memberId) {
-        Member member = memberService.findMember(memberId);
-        return spaceRepository.findByMember_Id(memberId);
+    public SpaceResponse.ReadResultDTO readSpace(Long memberId, FieldSet fieldSet) {
+        Space space = spaceRepository.findByMember_Id(memberId);
+        if (space == null) {
+            throw new GeneralException(ErrorStatus.SPACE_NOT_FOUND);
+        }
+
+        List<Plan> planList = fieldSet.includes("planList") ? findUpcomingPlans(space) : null;
+        return SpaceConverter.toReadResultDTO(space, planList, spaceViewService.getViewCount(space.getId()), fieldSet);
+    }
+
+    /**
+     * 내 마이스페이스 버전 조회 (ETag 계산용)
+     * 다가오는 계획 구간이 날짜에 따라 바뀌므로 오늘 날짜를 함께 넣는다
+     * 멤버 엔티티를 읽지 않고 버전 쿼리 하나로 끝낸다
+     * @param tokenClaimsDTO 멤버 식별자
+     * @return 버전 문자열
+     */
+    public String readSpaceVersion(TokenDTO.tokenClaimsDTO tokenClaimsDTO) {
+        String version = spaceRepository.findVersionByEmailAndSocial(tokenClaimsDTO.getEmail(), tokenClaimsDTO.getSocial().name())
+                .orElseThrow(() -> new GeneralException(ErrorStatus.MEMBER_NOT_FOUND));
+        return version + ":" + LocalDate.now();
     }
 
     /**
@@ -70,6 +133,7 @@ public class SpaceServiceImpl implements SpaceService {
         }
         Space targetSpace = spaceRepository.findByMember_Id(memberId);
         spaceRepository.delete(targetSpace);
+        spaceExploreService.recordDeleted(targetSpace.getId());
     }
 
     /**
@@ -79,7 +143,7 @@ public class SpaceServiceImpl implements SpaceService {
      * @return 수정된 마이스페이스의 특징
      */
     @Transactional
-    public Space updateResult(Long memberId, SpaceRequest.UpdateDTO request) {
+    public SpaceResponse.UpdateResultDTO updateResult(Long memberId, SpaceRequest.UpdateDTO request) {
         Member member = memberService.findMember(memberId);
         Optional<Space> optionalSpace = spaceRepository.findByMember(member);
 
@@ -89,32 +153,61 @@ public class SpaceServiceImpl implements SpaceService {
 
         Space targetSpace = optionalSpace.get();
 
-        if (request.getNickname() != null) targetSpace.updateNickname(request.getNickname());
+        if (request.getNickname() != null) {
+            targetSpace.updateNickname(request.getNickname());
+            existenceFilterService.recordSpaceNickname(request.getNickname());
+        }
         if (request.getCharacterType() != null) targetSpace.updateCharacterType(request.getCharacterType());
         if (request.getRoomType() != null) targetSpace.updateRoomType(request.getRoomType());
         if (request.getMood() != null) targetSpace.updateMood(Mood.valueOf(request.getMood()));
         if (request.getMusicUrl() != null) targetSpace.updateMusirUrl(request.getMusicUrl());
         if (request.getStatusMessage() != null) targetSpace.updateStatusMessage(request.getStatusMessage());
 
-        return targetSpace;
+        return SpaceConverter.toUpdateResultDTO(targetSpace, findUpcomingPlans(targetSpace));
     }
 
     /**
      * 계획 추가
      * @param memberId 멤버 식별자
      * @param request
-     * @return 계획이 추가된 마이스페이스
+     * @return 추가된 계획
      */
     @Override
     @Transactional
-    public Space createPlan(Long memberId, PlanRequest.CreatePlanDTO request) throws ParseException {
+    public PlanResponse.planDTO createPlan(Long memberId, PlanRequest.CreatePlanDTO request) {
         Member member = memberService.findMember(memberId); // 멤버 검사
-        if (!spaceRepository.existsByMember(member)) { // 스페이스 검사
+        Space space = spaceRepository.findByMember(member) // 스페이스 검사
+                .orElseThrow(() -> new GeneralException(ErrorStatus.SPACE_NOT_FOUND));
+
+        Plan plan = PlanConverter.toPlan(space, request);
+        space.addPlan(plan);
+        return PlanConverter.toPlanDTO(plan);
+    }
+
+    /**
+     * 기간별 계획 조회
+     * 날짜, 식별자 순으로 size 개씩 읽고, 다음 페이지는 응답의 next_from, next_cursor 로 요청한다
+     * @param memberId 멤버 식별자
+     * @param from 시작 날짜 (포함)
+     * @param to 끝 날짜 (포함)
+     * @param cursor 이전 페이지의 next_cursor
+     * @param size 페이지 크기
+     * @return 계획 목록
+     */
+    @Override
+    public PlanResponse.PlanPageDTO getPlans(Long memberId, LocalDate from, LocalDate to, Long cursor, int size) {
+        if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= maxRangeDays) {
+            throw new GeneralException(ErrorStatus.PLAN_INVALID_RANGE);
+        }
+
+        Space space = spaceRepository.findByMember_Id(memberId);
+        if (space == null) {
             throw new GeneralException(ErrorStatus.SPACE_NOT_FOUND);
         }
-        Space space = spaceRepository.findByMember(member).get();
-        space.addPlan(PlanConverter.toPlan(space, request));
-        return space;
+
+        List<Plan> planList = planRepository.findPageBySpaceIdAndDateBetween(
+                space.getId(), from, to, cursor == null ? 0L : cursor, PageRequest.of(0, size));
+        return PlanConverter.toPlanPageDTO(planList, size);
     }
 
     /**
@@ -125,7 +218,7 @@ public class SpaceServiceImpl implements SpaceService {
      */
     @Override
     @Transactional
-    public Space uploadImage(Long memberId, MultipartFile multipartFile) {
+    public SpaceResponse.ReadResultDTO uploadImage(Long memberId, MultipartFile multipartFile) {
         Member member = memberService.findMember(memberId); // 멤버 검사
 
         if (!spaceRepository.existsByMember(member)) { // 스페이스 검사
@@ -140,7 +233,7 @@ public class SpaceServiceImpl implements SpaceService {
         }
 
         space.addImage(SpaceImageConverter.toSpaceImage(space, imageDTO));
-        return space;
+        return SpaceConverter.toReadResultDTO(space, findUpcomingPlans(space), spaceViewService.getViewCount(space.getId()));
     }
 
     /**
@@ -162,4 +255,11 @@ public class SpaceServiceImpl implements SpaceService {
         Space space = spaceRepository.findByMember(member).get();
         return space;
     }
+
+    // 전체 계획 컬렉션 대신 오늘부터 정해진 구간만 인덱스로 읽는다
+    private List<Plan> findUpcomingPlans(Space space) {
+        LocalDate today = LocalDate.now();
+        return planRepository.findPageBySpaceIdAndDateBetween(
+                space.getId(), today, today.plusDays(upcomingDays - 1L), 0L, PageRequest.of(0, upcomingSize));
+    }
 }
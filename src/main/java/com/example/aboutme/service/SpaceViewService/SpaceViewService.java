@@ -0,0 +1,9 @@
+package com.example.aboutme.service.SpaceViewService;
+
+public interface SpaceViewService {
+    void recordView(Long spaceId);
+
+    long getViewCount(Long spaceId);
+
+    int flushPendingViews();
+}
@@ -0,0 +1,114 @@
+package com.example.aboutme.service.SpaceViewService;
+
+import com.example.aboutme.repository.SpaceViewCountRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 스페이스 조회수
+ * 조회마다 행을 갱신하면 인기 스페이스의 한 행에 잠금이 몰리므로, 스페이스별 LongAdder 에 증가분만 모으고
+ * flushPendingViews 가 주기적으로 한 번의 배치 upsert 로 더한다.
+ * 조회 결과는 저장된 값에 아직 저장되지 않은 증가분을 더해 돌려준다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class SpaceViewServiceImpl implements SpaceViewService {
+
+    private static final String UPSERT_SQL = "insert into space_view_count (space_id, view_count) values (?, ?) " +
+            "on duplicate key update view_count = view_count + values(view_count)";
+
+    private final SpaceViewCountRepository spaceViewCountRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Map<Long, LongAdder> pendingViews = new ConcurrentHashMap<>();
+
+    public SpaceViewServiceImpl(SpaceViewCountRepository spaceViewCountRepository,
+                                JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry) {
+        this.spaceViewCountRepository = spaceViewCountRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("space.views.pending.spaces", pendingViews, Map::size)
+                .register(meterRegistry);
+    }
+
+    public void recordView(Long spaceId) {
+        // 증가를 compute 안에서 해야 flush 가 맵에서 뺀 LongAdder 에 더해져 사라지는 일이 없다
+        pendingViews.compute(spaceId, (key, adder) -> {
+            LongAdder target = adder == null ? new LongAdder() : adder;
+            target.increment();
+            return target;
+        });
+    }
+
+    public long getViewCount(Long spaceId) {
+        long stored = spaceViewCountRepository.findViewCountBySpaceId(spaceId).orElse(0L);
+        LongAdder pending = pendingViews.get(spaceId);
+        return pending == null ? stored : stored + pending.sum();
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int flushPendingViews() {
+        List<Object[]> batch = new ArrayList<>();
+
+        pendingViews.forEach((spaceId, adder) -> {
+            long views = adder.sumThenReset();
+            if (views > 0) {
+                batch.add(new Object[]{spaceId, views});
+            } else {
+                // 한 주기 동안 조회가 없던 스페이스는 맵에서 뺀다 (recordView 와 같은 잠금 안에서 0 인지 다시 확인)
+                pendingViews.computeIfPresent(spaceId, (key, current) -> current.sum() == 0 ? null : current);
+            }
+        });
+
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPSERT_SQL, batch));
+        } catch (DataAccessException e) {
+            // 다음 주기에 다시 저장하도록 증가분을 되돌린다
+            log.warn("스페이스 조회수 저장 실패, 다음 주기에 재시도: spaces={}, error={}", batch.size(), e.getMessage());
+            batch.forEach(row -> pendingViews.compute((Long) row[0], (key, adder) -> {
+                LongAdder target = adder == null ? new LongAdder() : adder;
+                target.add((Long) row[1]);
+                return target;
+            }));
+            meterRegistry.counter("space.views.flush.failures").increment();
+            return 0;
+        }
+
+        meterRegistry.counter("space.views.flushed").increment(batch.stream().mapToLong(row -> (Long) row[1]).sum());
+        return batch.size();
+    }
+
+    // 종료 전에 저장되지 않은 조회수를 저장한다
+    @PreDestroy
+    public void flushOnShutdown() {
+        int flushed = flushPendingViews();
+        if (flushed > 0) {
+            log.info("종료 전 스페이스 조회수 저장: spaces={}", flushed);
+        }
+    }
+}
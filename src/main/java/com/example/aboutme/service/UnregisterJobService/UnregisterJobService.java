@@ -0,0 +1,10 @@
+package com.example.aboutme.service.UnregisterJobService;
+
+public interface UnregisterJobService {
+
+    /**
+     * 대기 중인 탈퇴 정리 작업 실행
+     * @return 완료된 작업 수
+     */
+    int purgePendingJobs();
+}
@@ -0,0 +1,265 @@
+package com.example.aboutme.service.UnregisterJobService;
+
+import com.example.aboutme.aws.s3.S3Service;
+import com.example.aboutme.domain.Plan;
+import com.example.aboutme.domain.Profile;
+import com.example.aboutme.domain.ProfileFeature;
+import com.example.aboutme.domain.ProfileImage;
+import com.example.aboutme.domain.Space;
+import com.example.aboutme.domain.SpaceImage;
+import com.example.aboutme.domain.constant.ProfileImageType;
+import com.example.aboutme.domain.constant.UnregisterJobStatus;
+import com.example.aboutme.repository.UnregisterJobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 탈퇴한 멤버의 연관 데이터 정리
+ * 외래키 순서대로 테이블마다 chunk-size 행씩 bulk DELETE 하고, 청크마다 커밋해 락과 트랜잭션을 짧게 유지한다.
+ * 모든 단계는 다시 실행해도 결과가 같으므로 실패하면 처음 단계부터 재시도한다.
+ * 작업은 조건부 UPDATE 로 선점해 한 서버만 실행하고, lease-seconds 동안 진행 기록이 없으면 다른 서버가 이어받는다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class UnregisterJobServiceImpl implements UnregisterJobService {
+
+    private static final String MY_PROFILES = "(select id from profile where member_id = ?)";
+    private static final String MY_SPACE = "(select id from space where member_id = ?)";
+
+    // 이미지가 아닌 테이블 정리 단계 (단계 이름, 파라미터: memberId, limit)
+    private static final List<Map.Entry<String, String>> DEPENDENT_STEPS = List.of(
+            Map.entry("alarm_member", "delete from alarm where member_id = ? limit ?"),
+            Map.entry("alarm_profile", "delete from alarm where profile_id in " + MY_PROFILES + " limit ?"),
+            Map.entry("alarm_space", "delete from alarm where space_id in " + MY_SPACE + " limit ?"),
+            Map.entry("member_profile_profile", "delete from member_profile where profile_id in " + MY_PROFILES + " limit ?"),
+            Map.entry("member_space_space", "delete from member_space where space_id in " + MY_SPACE + " limit ?"),
+            Map.entry("guest_book_writer", "delete from guest_book where writer = ? limit ?"),
+            Map.entry("guest_book_space", "delete from guest_book where space_id in " + MY_SPACE + " limit ?"),
+            Map.entry("profile_feature", "delete from profile_feature where profile_id in " + MY_PROFILES + " limit ?"),
+            Map.entry("profile_visitor_sketch", "delete from profile_visitor_sketch where profile_id in " + MY_PROFILES + " limit ?"),
+            // 스페이스가 없어진 캐릭터 이미지는 기본 이미지로 바꾼다
+            Map.entry("profile_image_space", "update profile_image set space_id = null, type = '" + ProfileImageType.DEFAULT.name() + "', updated_at = current_timestamp(6) " +
+                    "where space_id in " + MY_SPACE + " limit ?"),
+            Map.entry("plan", "delete from plan where space_id in " + MY_SPACE + " limit ?"),
+            Map.entry("space_view_count", "delete from space_view_count where space_id in " + MY_SPACE + " limit ?")
+    );
+
+    private static final List<Map.Entry<String, String>> OWNER_STEPS = List.of(
+            Map.entry("profile", "delete from profile where member_id = ? limit ?"),
+            Map.entry("space", "delete from space where member_id = ? limit ?"),
+            Map.entry("member", "delete from member where id = ? limit ?")
+    );
+
+    private final UnregisterJobRepository unregisterJobRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final S3Service s3Service;
+    private final EntityManagerFactory entityManagerFactory;
+    private final int chunkSize;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final String owner = UUID.randomUUID().toString();
+
+    public UnregisterJobServiceImpl(UnregisterJobRepository unregisterJobRepository,
+                                    JdbcTemplate jdbcTemplate,
+                                    PlatformTransactionManager transactionManager,
+                                    S3Service s3Service,
+                                    EntityManagerFactory entityManagerFactory,
+                                    @Value("${member.unregister.chunk-size:500}") int chunkSize,
+                                    @Value("${member.unregister.max-attempts:3}") int maxAttempts,
+                                    @Value("${member.unregister.lease-seconds:600}") long leaseSeconds) {
+        this.unregisterJobRepository = unregisterJobRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.s3Service = s3Service;
+        this.entityManagerFactory = entityManagerFactory;
+        this.chunkSize = chunkSize;
+        this.maxAttempts = maxAttempts;
+        this.lease = Duration.ofSeconds(leaseSeconds);
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int purgePendingJobs() {
+        List<Long> jobIdList = transactionTemplate.execute(status -> unregisterJobRepository.findClaimableIds(
+                UnregisterJobStatus.PENDING, UnregisterJobStatus.RUNNING, LocalDateTime.now().minus(lease), PageRequest.of(0, 10)));
+        int completed = 0;
+
+        for (Long jobId : jobIdList) {
+            if (claim(jobId) && purge(jobId)) {
+                completed++;
+            }
+        }
+        return completed;
+    }
+
+    // 다른 서버가 먼저 가져간 작업은 건너뛴다
+    private boolean claim(Long jobId) {
+        LocalDateTime now = LocalDateTime.now();
+        return transactionTemplate.execute(status -> unregisterJobRepository.claim(jobId, owner,
+                UnregisterJobStatus.PENDING, UnregisterJobStatus.RUNNING, now, now.minus(lease))) == 1;
+    }
+
+    private boolean purge(Long jobId) {
+        Long memberId = transactionTemplate.execute(status -> unregisterJobRepository.findById(jobId).get().getMemberId());
+        CachedIds cachedIds = transactionTemplate.execute(status -> findCachedIds(memberId));
+
+        try {
+            DEPENDENT_STEPS.forEach(step -> deleteInChunks(jobId, memberId, step.getKey(), step.getValue()));
+            // 다른 멤버의 프로필, 스페이스를 저장한 행은 그 주인의 공유 현황을 함께 줄인다
+            deleteSharesInChunks(jobId, memberId, "member_profile_member", "member_profile", "profile_shared_num",
+                    "select mp.id, p.member_id as owner_id from member_profile mp join profile p on mp.profile_id = p.id where mp.member_id = ? limit ?");
+            deleteSharesInChunks(jobId, memberId, "member_space_member", "member_space", "space_shared_num",
+                    "select ms.id, s.member_id as owner_id from member_space ms join space s on ms.space_id = s.id where ms.member_id = ? limit ?");
+            // profile 이 profile_image 를 참조하므로 참조를 먼저 끊고 지운다
+            deleteImagesInChunks(jobId, memberId, "profile_image",
+                    "select pi.id, pi.type, pi.image_url from profile p join profile_image pi on p.profile_image_id = pi.id where p.member_id = ? limit ?",
+                    "update profile set profile_image_id = null where profile_image_id in ");
+            deleteImagesInChunks(jobId, memberId, "space_image",
+                    "select id, null as type, image as image_url from space_image where space_id in " + MY_SPACE + " limit ?",
+                    null);
+            OWNER_STEPS.forEach(step -> deleteInChunks(jobId, memberId, step.getKey(), step.getValue()));
+        } catch (RuntimeException e) {
+            log.warn("탈퇴 정리 실패: job={}, member={}", jobId, memberId, e);
+            transactionTemplate.executeWithoutResult(status ->
+                    unregisterJobRepository.findById(jobId).get().fail(e.getMessage(), maxAttempts));
+            return false;
+        } finally {
+            // bulk DELETE 는 2차 캐시를 거치지 않으므로 이 멤버의 캐시 항목만 비운다
+            evict(cachedIds);
+        }
+
+        transactionTemplate.executeWithoutResult(status -> unregisterJobRepository.findById(jobId).get().complete());
+        log.info("탈퇴 정리 완료: job={}, member={}", jobId, memberId);
+        return true;
+    }
+
+    private CachedIds findCachedIds(Long memberId) {
+        return new CachedIds(
+                jdbcTemplate.queryForList("select id from profile where member_id = ?", Long.class, memberId),
+                jdbcTemplate.queryForList("select id from profile_feature where profile_id in " + MY_PROFILES, Long.class, memberId),
+                jdbcTemplate.queryForList("select pi.id from profile_image pi join profile p on p.profile_image_id = pi.id where p.member_id = ? " +
+                        "union select id from profile_image where space_id in " + MY_SPACE, Long.class, memberId, memberId),
+                jdbcTemplate.queryForList("select id from space where member_id = ?", Long.class, memberId),
+                jdbcTemplate.queryForList("select id from space_image where space_id in " + MY_SPACE, Long.class, memberId),
+                jdbcTemplate.queryForList("select id from plan where space_id in " + MY_SPACE, Long.class, memberId));
+    }
+
+    private void evict(CachedIds cachedIds) {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        cachedIds.profileIds().forEach(id -> {
+            cache.evictEntityData(Profile.class, id);
+            cache.evictCollectionData(Profile.class.getName() + ".profileFeatureList", id);
+        });
+        cachedIds.profileFeatureIds().forEach(id -> cache.evictEntityData(ProfileFeature.class, id));
+        cachedIds.profileImageIds().forEach(id -> cache.evictEntityData(ProfileImage.class, id));
+        cachedIds.spaceIds().forEach(id -> {
+            cache.evictEntityData(Space.class, id);
+            cache.evictCollectionData(Space.class.getName() + ".spaceImageList", id);
+            cache.evictCollectionData(Space.class.getName() + ".planList", id);
+        });
+        cachedIds.spaceImageIds().forEach(id -> cache.evictEntityData(SpaceImage.class, id));
+        cachedIds.planIds().forEach(id -> cache.evictEntityData(Plan.class, id));
+    }
+
+    /**
+     * 2차 캐시에 올라갈 수 있는 이 멤버의 엔티티 식별자 (정리 전에 모아 둔다)
+     */
+    private record CachedIds(List<Long> profileIds, List<Long> profileFeatureIds, List<Long> profileImageIds,
+                             List<Long> spaceIds, List<Long> spaceImageIds, List<Long> planIds) {
+    }
+
+    private void deleteInChunks(Long jobId, Long memberId, String step, String sql) {
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(status -> {
+                int rows = jdbcTemplate.update(sql, memberId, chunkSize);
+                unregisterJobRepository.addProgress(jobId, step, rows, LocalDateTime.now());
+                return rows;
+            });
+        } while (deleted == chunkSize);
+    }
+
+    /**
+     * 저장(공유) 행을 지우면서 저장된 프로필, 스페이스 주인의 공유 현황을 같은 트랜잭션에서 줄인다
+     */
+    private void deleteSharesInChunks(Long jobId, Long memberId, String step, String table, String counterColumn, String selectSql) {
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(status -> {
+                List<Map<String, Object>> rows = jdbcTemplate.queryForList(selectSql, memberId, chunkSize);
+                if (rows.isEmpty()) {
+                    return 0;
+                }
+
+                // 멤버 행은 식별자 순으로 잠가 다른 정리 작업과 교착되지 않게 한다
+                Map<Long, Long> sharesByOwner = rows.stream()
+                        .collect(Collectors.groupingBy(row -> ((Number) row.get("owner_id")).longValue(), TreeMap::new, Collectors.counting()));
+                jdbcTemplate.batchUpdate("update member set " + counterColumn + " = greatest(" + counterColumn + " - ?, 0) where id = ?",
+                        sharesByOwner.entrySet().stream()
+                                .map(share -> new Object[]{share.getValue(), share.getKey()})
+                                .collect(Collectors.toList()));
+
+                String ids = rows.stream()
+                        .map(row -> String.valueOf(row.get("id")))
+                        .collect(Collectors.joining(","));
+                jdbcTemplate.update("delete from " + table + " where id in (" + ids + ")");
+                unregisterJobRepository.addProgress(jobId, step, rows.size(), LocalDateTime.now());
+                return rows.size();
+            });
+        } while (deleted == chunkSize);
+    }
+
+    /**
+     * 이미지 행은 삭제한 뒤 커밋이 끝나면 S3 파일도 지운다
+     */
+    private void deleteImagesInChunks(Long jobId, Long memberId, String table, String selectSql, String unlinkSql) {
+        int deleted;
+        do {
+            List<String> fileUrlList = new ArrayList<>();
+            deleted = transactionTemplate.execute(status -> {
+                List<Map<String, Object>> rows = jdbcTemplate.queryForList(selectSql, memberId, chunkSize);
+                if (rows.isEmpty()) {
+                    return 0;
+                }
+
+                String ids = rows.stream()
+                        .map(row -> String.valueOf(row.get("id")))
+                        .collect(Collectors.joining(","));
+                if (unlinkSql != null) {
+                    jdbcTemplate.update(unlinkSql + "(" + ids + ")");
+                }
+                jdbcTemplate.update("delete from " + table + " where id in (" + ids + ")");
+                unregisterJobRepository.addProgress(jobId, table, rows.size(), LocalDateTime.now());
+
+                rows.stream()
+                        .filter(row -> row.get("type") == null || ProfileImageType.USER_IMAGE.name().equals(row.get("type")))
+                        .map(row -> (String) row.get("image_url"))
+                        .filter(fileUrl -> fileUrl != null && !fileUrl.isBlank())
+                        .forEach(fileUrlList::add);
+                return rows.size();
+            });
+
+            fileUrlList.forEach(s3Service::deleteFile);
+        } while (deleted == chunkSize);
+    }
+}
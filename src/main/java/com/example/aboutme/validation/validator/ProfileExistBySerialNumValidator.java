@@ -1,7 +1,7 @@
 package com.example.aboutme.validation.validator;
 
 import com.example.aboutme.apiPayload.code.status.ErrorStatus;
-import com.example.aboutme.repository.ProfileRepository;
+import com.example.aboutme.service.ExistenceFilterService.ExistenceFilterService;
 import com.example.aboutme.validation.annotation.ExistProfileBySerialNum;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,12 +16,12 @@ import java.util.List;
 @Slf4j
 public class ProfileExistBySerialNumValidator implements ConstraintValidator<ExistProfileBySerialNum, Integer> {
 
-    private final ProfileRepository profileRepository;
+    private final ExistenceFilterService existenceFilterService;
 
     @Override
     public boolean isValid(Integer serialNumber, ConstraintValidatorContext context) {
 
-        boolean isValid = profileRepository.existsBySerialNumber(serialNumber);
+        boolean isValid = existenceFilterService.existsSerialNumber(serialNumber);
 
         if(!isValid){
             log.info("마이프로필이 존재하지 않음: {}", serialNumber);
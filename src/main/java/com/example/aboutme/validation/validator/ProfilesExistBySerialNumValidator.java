@@ -1,7 +1,7 @@
 package com.example.aboutme.validation.validator;
 
 import com.example.aboutme.apiPayload.code.status.ErrorStatus;
-import com.example.aboutme.repository.ProfileRepository;
+import com.example.aboutme.service.ExistenceFilterService.ExistenceFilterService;
 import com.example.aboutme.validation.annotation.ExistMyProfile;
 import com.example.aboutme.validation.annotation.ExistProfilesBySerialNum;
 import lombok.RequiredArgsConstructor;
@@ -18,12 +18,12 @@ import java.util.List;
 @Slf4j
 public class ProfilesExistBySerialNumValidator implements ConstraintValidator<ExistProfilesBySerialNum, List<Integer>> {
 
-    private final ProfileRepository profileRepository;
+    private final ExistenceFilterService existenceFilterService;
 
     @Override
     public boolean isValid(List<Integer> profileList, ConstraintValidatorContext context) {
         boolean isValid = profileList.stream()
-                .allMatch(value -> profileRepository.existsBySerialNumber(value));
+                .allMatch(value -> existenceFilterService.existsSerialNumber(value));
 
         if(!isValid){
             log.info("마이프로필이 존재하지 않음: {}", profileList);
@@ -1,7 +1,7 @@
 package com.example.aboutme.validation.validator;
 
 import com.example.aboutme.apiPayload.code.status.ErrorStatus;
-import com.example.aboutme.repository.SpaceRepository;
+import com.example.aboutme.service.ExistenceFilterService.ExistenceFilterService;
 import com.example.aboutme.validation.annotation.ExistMySpace;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,7 +15,7 @@ import javax.validation.ConstraintValidatorContext;
 @Slf4j
 public class SpaceNicknameExistValidator implements ConstraintValidator<ExistMySpace, String> {
 
-    private final SpaceRepository spaceRepository;
+    private final ExistenceFilterService existenceFilterService;
 
     @Override
     public void initialize(ExistMySpace constraintAnnotation) {
@@ -25,7 +25,7 @@ public class SpaceNicknameExistValidator implements ConstraintValidator<ExistMyS
     @Override
     public boolean isValid(String nickname, ConstraintValidatorContext context) {
 
-        boolean isValid = spaceRepository.existsByNickname(nickname);
+        boolean isValid = existenceFilterService.existsSpaceNickname(nickname);
 
         if(!isValid){
             context.disableDefaultConstraintViolation();
@@ -0,0 +1,4 @@
+-- ExistenceFilterServiceImpl.syncRecent (최근 생성·수정된 시리얼 넘버, 스페이스 닉네임만 읽는다)
+create index idx_profile_updated_at on profile (updated_at);
+
+create index idx_space_updated_at on space (updated_at);
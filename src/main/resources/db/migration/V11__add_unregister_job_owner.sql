@@ -0,0 +1,2 @@
+-- UnregisterJobRepository.claim (작업을 선점한 서버, 여러 서버가 같은 작업을 동시에 정리하지 않도록)
+alter table unregister_job add column owner varchar(255);
@@ -0,0 +1,8 @@
+-- 마이페이지 공유 현황을 멤버 행에 둔다 (운영 DB에는 이 컬럼이 없어 V1 이 아닌 여기서 추가한다)
+alter table member add column profile_shared_num integer not null default 0;
+alter table member add column space_shared_num integer not null default 0;
+
+-- 기존 보관함/아지트 행 기준으로 채운다 (MemberRepository.reconcileSharedNum 과 같은 기준)
+update member m set
+    m.profile_shared_num = (select count(*) from member_profile mp join profile p on mp.profile_id = p.id where p.member_id = m.id),
+    m.space_shared_num = (select count(*) from member_space ms join space s on ms.space_id = s.id where s.member_id = m.id);
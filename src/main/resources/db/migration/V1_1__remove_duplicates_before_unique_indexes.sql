@@ -0,0 +1,44 @@
+-- V2 의 unique 인덱스를 만들기 전에 기존 DB 에 남아 있을 수 있는 중복을 정리한다
+-- (중복이 없으면 아무 행도 바뀌지 않는다, 멤버와 프로필 행은 지우지 않고 값만 바꾼다)
+
+-- space.member_id: 멤버당 스페이스가 여럿이면 가장 먼저 만든 스페이스로 연관 데이터를 옮기고 나머지를 지운다
+create temporary table space_merge as
+select s.id as duplicate_id, k.keep_id
+from space s
+join (select member_id, min(id) as keep_id from space where member_id is not null group by member_id having count(*) > 1) k
+    on s.member_id = k.member_id and s.id <> k.keep_id;
+
+update space_image t join space_merge m on t.space_id = m.duplicate_id set t.space_id = m.keep_id;
+update plan t join space_merge m on t.space_id = m.duplicate_id set t.space_id = m.keep_id;
+update alarm t join space_merge m on t.space_id = m.duplicate_id set t.space_id = m.keep_id;
+update guest_book t join space_merge m on t.space_id = m.duplicate_id set t.space_id = m.keep_id;
+update profile_image t join space_merge m on t.space_id = m.duplicate_id set t.space_id = m.keep_id;
+update member_space t join space_merge m on t.space_id = m.duplicate_id set t.space_id = m.keep_id;
+delete s from space s join space_merge m on s.id = m.duplicate_id;
+
+drop temporary table space_merge;
+
+-- member_profile, member_space: 같은 쌍이 여럿이면 가장 먼저 만든 행만 남긴다 (위에서 옮긴 아지트 포함)
+delete t from member_profile t
+join member_profile k on k.member_id = t.member_id and k.profile_id = t.profile_id and k.id < t.id;
+
+delete t from member_space t
+join member_space k on k.member_id = t.member_id and k.space_id = t.space_id and k.id < t.id;
+
+-- member(email, social): 로그인 조회가 실패하던 중복 계정은 가장 먼저 가입한 계정만 남기고 이메일 뒤에 식별자를 붙인다
+update member t
+join (select email, social, min(id) as keep_id from member where email is not null group by email, social having count(*) > 1) k
+    on t.email = k.email and t.social = k.social and t.id <> k.keep_id
+set t.email = concat(t.email, '#duplicate-', t.id);
+
+-- profile.serial_number: 발급 범위(6자리) 밖의 번호로 바꿔 겹치지 않게 한다
+update profile t
+join (select serial_number, min(id) as keep_id from profile where serial_number is not null group by serial_number having count(*) > 1) k
+    on t.serial_number = k.serial_number and t.id <> k.keep_id
+set t.serial_number = 1000000 + t.id;
+
+-- space.nickname: 콜레이션 기준으로 같은 닉네임은 가장 먼저 만든 스페이스만 남기고 뒤에 식별자를 붙인다
+update space t
+join (select nickname, min(id) as keep_id from space where nickname is not null group by nickname having count(*) > 1) k
+    on t.nickname = k.nickname and t.id <> k.keep_id
+set t.nickname = concat(t.nickname, '#', t.id);
@@ -0,0 +1,134 @@
+-- ddl-auto: update 로 생성되던 기존 스키마 (운영 DB는 baseline 으로 건너뛴다)
+
+create table member (
+    id bigint not null auto_increment,
+    created_at datetime(6),
+    updated_at datetime(6),
+    email varchar(255),
+    jwt_access_token varchar(255),
+    social varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table space (
+    id bigint not null auto_increment,
+    created_at datetime(6),
+    updated_at datetime(6),
+    character_type integer,
+    mood varchar(255),
+    music_url varchar(255),
+    nickname varchar(255),
+    room_type integer,
+    status_message varchar(255),
+    member_id bigint,
+    primary key (id),
+    constraint fk_space_member foreign key (member_id) references member (id)
+) engine=InnoDB;
+
+create table profile (
+    id bigint not null auto_increment,
+    created_at datetime(6),
+    updated_at datetime(6),
+    is_default bit,
+    serial_number integer,
+    member_id bigint,
+    primary key (id),
+    constraint fk_profile_member foreign key (member_id) references member (id)
+) engine=InnoDB;
+
+create table profile_feature (
+    id bigint not null auto_increment,
+    created_at datetime(6),
+    updated_at datetime(6),
+    profile_key varchar(255),
+    profile_value varchar(255),
+    side varchar(255),
+    profile_id bigint,
+    primary key (id),
+    constraint fk_profile_feature_profile foreign key (profile_id) references profile (id)
+) engine=InnoDB;
+
+create table profile_image (
+    id bigint not null auto_increment,
+    created_at datetime(6),
+    updated_at datetime(6),
+    image_url varchar(255),
+    type varchar(255),
+    profile_id bigint,
+    space_id bigint,
+    primary key (id),
+    constraint fk_profile_image_profile foreign key (profile_id) references profile (id),
+    constraint fk_profile_image_space foreign key (space_id) references space (id)
+) engine=InnoDB;
+
+create table space_image (
+    id bigint not null auto_increment,
+    created_at datetime(6),
+    updated_at datetime(6),
+    image varchar(255),
+    space_id bigint,
+    primary key (id),
+    constraint fk_space_image_space foreign key (space_id) references space (id)
+) engine=InnoDB;
+
+create table plan (
+    id bigint not null auto_increment,
+    created_at datetime(6),
+    updated_at datetime(6),
+    content varchar(255),
+    date date,
+    space_id bigint,
+    primary key (id),
+    constraint fk_plan_space foreign key (space_id) references space (id)
+) engine=InnoDB;
+
+create table alarm (
+    id bigint not null auto_increment,
+    created_at datetime(6),
+    updated_at datetime(6),
+    content varchar(255),
+    is_read bit not null,
+    member_id bigint,
+    profile_id bigint,
+    space_id bigint,
+    primary key (id),
+    constraint fk_alarm_member foreign key (member_id) references member (id),
+    constraint fk_alarm_profile foreign key (profile_id) references profile (id),
+    constraint fk_alarm_space foreign key (space_id) references space (id)
+) engine=InnoDB;
+
+create table guest_book (
+    id bigint not null auto_increment,
+    created_at datetime(6),
+    updated_at datetime(6),
+    content varchar(255),
+    space_id bigint,
+    writer bigint,
+    primary key (id),
+    constraint fk_guest_book_space foreign key (space_id) references space (id),
+    constraint fk_guest_book_writer foreign key (writer) references member (id)
+) engine=InnoDB;
+
+create table member_profile (
+    id bigint not null auto_increment,
+    created_at datetime(6),
+    updated_at datetime(6),
+    favorite bit,
+    member_id bigint,
+    profile_id bigint,
+    primary key (id),
+    constraint fk_member_profile_member foreign key (member_id) references member (id),
+    constraint fk_member_profile_profile foreign key (profile_id) references profile (id)
+) engine=InnoDB;
+
+create table member_space (
+    id bigint not null auto_increment,
+    created_at datetime(6),
+    updated_at datetime(6),
+    favorite bit not null,
+    member_id bigint,
+    space_id bigint,
+    primary key (id),
+    constraint fk_member_space_member foreign key (member_id) references member (id),
+    constraint fk_member_space_space foreign key (space_id) references space (id)
+) engine=InnoDB;
@@ -0,0 +1,30 @@
+-- Repository 조회 조건별 인덱스
+-- unique 인덱스 대상의 기존 중복은 V1_1 에서 먼저 정리한다
+
+-- MemberRepository.findByEmailAndSocial, existsByEmailAndSocial, findByEmail
+create unique index uk_member_email_social on member (email, social);
+
+-- ProfileRepository.findBySerialNumber, existsBySerialNumber
+create unique index uk_profile_serial_number on profile (serial_number);
+
+-- ProfileRepository.countByMember, findAllByMemberOrderByIsDefaultDesc, findByMemberAndId
+create index idx_profile_member_default on profile (member_id, is_default);
+
+-- ProfileFeatureRepository.findByProfileKeyAndProfileValueContaining, findProfileFeature
+-- profile_key 동등 조건으로만 범위를 좁힌다 (profile_value 의 LIKE '%x%' 는 B-tree 로 찾을 수 없어 그 범위 안에서 인덱스를 훑는다)
+create index idx_profile_feature_key_value on profile_feature (profile_key, profile_value);
+
+-- SpaceRepository.findByNickname, existsByNickname
+create unique index uk_space_nickname on space (nickname);
+
+-- SpaceRepository.findByMember, existsByMember, findByMember_Id (멤버당 스페이스 1개)
+create unique index uk_space_member on space (member_id);
+
+-- MemberProfileRepository.findByMemberAndProfile, existsByMemberAndProfile, findAllByMember, findByMemberAndProfileIn
+create unique index uk_member_profile_member_profile on member_profile (member_id, profile_id);
+
+-- MemberSpaceRepository.findByMemberAndSpace, findByMemberAndSpace_NicknameContaining
+create unique index uk_member_space_member_space on member_space (member_id, space_id);
+
+-- AlarmRepository.findByMember, existsByMemberAndProfile
+create index idx_alarm_member_profile on alarm (member_id, profile_id);
@@ -0,0 +1,3 @@
+-- MemberProfile, MemberSpace 낙관적 락 버전 (즐겨찾기는 단일 UPDATE 로 버전을 올린다)
+alter table member_profile add column version bigint not null default 0;
+alter table member_space add column version bigint not null default 0;
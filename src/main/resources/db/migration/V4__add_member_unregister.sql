@@ -0,0 +1,20 @@
+-- 탈퇴는 deleted_at 만 채우고, 연관 데이터는 unregister_job 으로 나눠서 정리한다
+alter table member add column deleted_at datetime(6);
+
+create table unregister_job (
+    id bigint not null auto_increment,
+    created_at datetime(6),
+    updated_at datetime(6),
+    attempts integer not null,
+    deleted_rows bigint not null,
+    last_error varchar(255),
+    member_id bigint,
+    status varchar(255),
+    step varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+-- UnregisterJobRepository.findClaimableIds
+-- (status = PENDING, 또는 status = RUNNING 이면서 updated_at 이 선점 만료 시각 이전인 작업을 모두 이 인덱스 범위로 읽는다)
+-- 정렬 기준 id 는 보조 인덱스에 기본키로 붙어 있어 대기·실행 중인 작업만 인덱스에서 읽고 정렬한다
+create index idx_unregister_job_status on unregister_job (status, updated_at);
@@ -0,0 +1,24 @@
+-- 프로필 이미지 외래키를 profile 쪽으로 옮겨 Profile -> ProfileImage 를 지연 로딩할 수 있게 한다
+alter table profile add column profile_image_id bigint;
+
+update profile p
+    join profile_image pi on pi.profile_id = p.id
+set p.profile_image_id = pi.id;
+
+alter table profile
+    add constraint uk_profile_profile_image unique (profile_image_id),
+    add constraint fk_profile_profile_image foreign key (profile_image_id) references profile_image (id);
+
+-- 운영 DB는 ddl-auto 로 만들어져 외래키 이름이 Hibernate 가 생성한 FK... 이므로 이름을 찾아서 지운다
+set @fk_profile_image_profile = (
+    select constraint_name from information_schema.KEY_COLUMN_USAGE
+    where table_schema = database() and table_name = 'profile_image'
+      and column_name = 'profile_id' and referenced_table_name = 'profile'
+    limit 1);
+set @drop_fk_profile_image_profile = if(@fk_profile_image_profile is null, 'do 0',
+    concat('alter table profile_image drop foreign key `', @fk_profile_image_profile, '`'));
+prepare drop_fk_profile_image_profile from @drop_fk_profile_image_profile;
+execute drop_fk_profile_image_profile;
+deallocate prepare drop_fk_profile_image_profile;
+
+alter table profile_image drop column profile_id;
@@ -0,0 +1,2 @@
+-- PlanRepository.findPageBySpaceIdAndDateBetween (스페이스별 날짜 범위 조회, 같은 날짜 안에서는 PK 순)
+create index idx_plan_space_date on plan (space_id, date);
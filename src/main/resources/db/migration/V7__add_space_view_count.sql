@@ -0,0 +1,7 @@
+-- 스페이스 조회수 (SpaceViewServiceImpl.flushPendingViews 가 증가분을 upsert 로 더한다)
+-- 저장 대기 중인 증가분이 스페이스 삭제 뒤에 들어올 수 있으므로 외래키는 두지 않고, 탈퇴 정리에서 함께 지운다
+create table space_view_count (
+    space_id bigint not null,
+    view_count bigint not null,
+    primary key (space_id)
+) engine=InnoDB;
@@ -0,0 +1,9 @@
+-- 프로필 고유 방문자 HyperLogLog 스케치 (레지스터 2048 개, 1 바이트씩)
+-- 저장 대기 중인 스케치가 프로필 삭제 뒤에 들어올 수 있으므로 외래키는 두지 않고, 탈퇴 정리에서 함께 지운다
+create table profile_visitor_sketch (
+    profile_id bigint not null,
+    created_at datetime(6),
+    updated_at datetime(6),
+    sketch varbinary(2048) not null,
+    primary key (profile_id)
+) engine=InnoDB;
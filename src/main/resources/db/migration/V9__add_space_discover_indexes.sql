@@ -0,0 +1,11 @@
+-- SpaceRepository.findDiscoverPageBy* (필터별 id 내림차순 키셋 조회)
+-- 응답 컬럼(id, nickname, character_type, room_type, mood)을 모두 담아 테이블 행을 읽지 않고 인덱스만으로 끝낸다
+
+-- mood, room_type 둘 다 지정
+create index idx_space_discover_mood_room on space (mood, room_type, id, character_type, nickname);
+
+-- mood 만 지정
+create index idx_space_discover_mood on space (mood, id, room_type, character_type, nickname);
+
+-- room_type 만 지정
+create index idx_space_discover_room on space (room_type, id, mood, character_type, nickname);
@@ -0,0 +1,149 @@
+package com.example.aboutme.app.controller;
+
+import com.example.aboutme.Login.jwt.TokenProvider;
+import com.example.aboutme.domain.Alarm;
+import com.example.aboutme.domain.Member;
+import com.example.aboutme.domain.Profile;
+import com.example.aboutme.domain.ProfileFeature;
+import com.example.aboutme.domain.ProfileImage;
+import com.example.aboutme.domain.Space;
+import com.example.aboutme.domain.constant.ProfileImageType;
+import com.example.aboutme.domain.constant.Side;
+import com.example.aboutme.domain.constant.Social;
+import com.example.aboutme.domain.mapping.MemberProfile;
+import com.example.aboutme.support.SqlStatementCount;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 자주 호출되는 조회 API 의 요청당 SQL 실행 횟수
+ * 목록 크기(ITEMS)보다 작은 예산을 두어 N+1 이 생기면 실패한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class HotEndpointSqlStatementCountTest {
+
+    private static final int ITEMS = 10;
+    private static final String EMAIL = "sql-count@test.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TokenProvider tokenProvider;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private String token;
+
+    @BeforeAll
+    void setUp() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Member member = Member.builder().social(Social.KAKAO).email(EMAIL).build();
+            Member other = Member.builder().social(Social.KAKAO).email("sql-count-other@test.com").build();
+            entityManager.persist(member);
+            entityManager.persist(other);
+
+            Space space = Space.builder().nickname("sql-count").characterType(1).roomType(1).member(member).build();
+            Space otherSpace = Space.builder().nickname("sql-count-other").characterType(1).roomType(1).member(other).build();
+            entityManager.persist(space);
+            entityManager.persist(otherSpace);
+
+            for (int i = 0; i < ITEMS; i++) {
+                Profile profile = persistProfile(member, 200000 + i, i == 0,
+                        ProfileImage.builder().type(ProfileImageType.CHARACTER).space(space).build());
+                Profile otherProfile = persistProfile(other, 300000 + i, i == 0,
+                        ProfileImage.builder().type(ProfileImageType.NONE).build());
+
+                entityManager.persist(MemberProfile.builder().favorite(false).member(member).profile(otherProfile).build());
+                entityManager.persist(Alarm.builder().content("alarm-" + i).isRead(false).member(member).profile(otherProfile).build());
+                entityManager.persist(Alarm.builder().content("space-alarm-" + i).isRead(false).member(member).space(otherSpace).build());
+                entityManager.persist(Alarm.builder().content("alarm-" + i).isRead(false).member(other).profile(profile).build());
+            }
+        });
+
+        token = tokenProvider.createToken(EMAIL, Social.KAKAO.name());
+    }
+
+    private Profile persistProfile(Member member, int serialNumber, boolean isDefault, ProfileImage profileImage) {
+        Profile profile = Profile.builder().serialNumber(serialNumber).isDefault(isDefault).member(member).profileImage(profileImage).build();
+        entityManager.persist(profile);
+        entityManager.persist(ProfileFeature.builder().side(Side.FRONT).profileKey("name").profileValue("name-" + serialNumber).profile(profile).build());
+        entityManager.persist(ProfileFeature.builder().side(Side.BACK).profileKey("mbti").profileValue("ENFP").profile(profile).build());
+        return profile;
+    }
+
+    @Test
+    void myPage() throws Exception {
+        mockMvc.perform(get("/mypages").header("token", token))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatementCount.atMost(5));
+    }
+
+    @Test
+    void myProfiles() throws Exception {
+        mockMvc.perform(get("/myprofiles").header("token", token))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatementCount.atMost(5));
+    }
+
+    @Test
+    void myProfilesStorage() throws Exception {
+        mockMvc.perform(get("/myprofiles/storage").header("token", token))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatementCount.atMost(3));
+    }
+
+    @Test
+    void alarms() throws Exception {
+        mockMvc.perform(get("/alarms").header("token", token))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatementCount.atMost(3));
+    }
+
+    // 304 응답은 멤버를 읽지 않고 버전 쿼리 하나로 끝난다
+    @Test
+    void myPageNotModified() throws Exception {
+        assertNotModifiedWithOneStatement("/mypages");
+    }
+
+    @Test
+    void myProfilesNotModified() throws Exception {
+        assertNotModifiedWithOneStatement("/myprofiles");
+    }
+
+    @Test
+    void mySpaceNotModified() throws Exception {
+        assertNotModifiedWithOneStatement("/myspaces/");
+    }
+
+    private void assertNotModifiedWithOneStatement(String uri) throws Exception {
+        String eTag = mockMvc.perform(get(uri).header("token", token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get(uri).header("token", token).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(SqlStatementCount.exactly(1));
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.aboutme.config.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicationRoutingDataSourceTest {
+
+    private DataSource primaryDataSource;
+    private DataSource replicaDataSource;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        primaryDataSource = h2("primary");
+        replicaDataSource = h2("replica");
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void readOnlyTransactionGoesToReplica() {
+        ReplicaLagMonitor monitor = monitor("select 0 as seconds_behind", 5);
+        monitor.check();
+
+        DataSource dataSource = routing(monitor);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        TransactionTemplate readOnly = transactionTemplate(dataSource, true);
+        TransactionTemplate readWrite = transactionTemplate(dataSource, false);
+
+        assertThat(readOnly.execute(status -> whoAmI(jdbcTemplate))).isEqualTo("replica");
+        assertThat(readWrite.execute(status -> whoAmI(jdbcTemplate))).isEqualTo("primary");
+        assertThat(meterRegistry.counter("datasource.routing", "target", "replica").count()).isEqualTo(1);
+    }
+
+    @Test
+    void laggingReplicaFallsBackToPrimary() {
+        ReplicaLagMonitor monitor = monitor("select 30 as seconds_behind", 5);
+        monitor.check();
+
+        DataSource dataSource = routing(monitor);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        TransactionTemplate readOnly = transactionTemplate(dataSource, true);
+
+        assertThat(monitor.isReplicaAvailable()).isFalse();
+        assertThat(readOnly.execute(status -> whoAmI(jdbcTemplate))).isEqualTo("primary");
+        assertThat(meterRegistry.counter("datasource.replica.fallback").count()).isEqualTo(1);
+    }
+
+    @Test
+    void failedLagQueryFallsBackToPrimary() {
+        ReplicaLagMonitor monitor = monitor("SHOW SLAVE STATUS", 5);
+        monitor.check();
+
+        DataSource dataSource = routing(monitor);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        TransactionTemplate readOnly = transactionTemplate(dataSource, true);
+
+        assertThat(monitor.isReplicaAvailable()).isFalse();
+        assertThat(readOnly.execute(status -> whoAmI(jdbcTemplate))).isEqualTo("primary");
+    }
+
+    @Test
+    void notConfiguredReplicaSendsEverythingToPrimaryWithoutFallback() {
+        ReplicaLagMonitor monitor = ReplicaLagMonitor.notConfigured();
+        monitor.check();
+
+        DataSource dataSource = routing(monitor);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        TransactionTemplate readOnly = transactionTemplate(dataSource, true);
+
+        assertThat(readOnly.execute(status -> whoAmI(jdbcTemplate))).isEqualTo("primary");
+        assertThat(meterRegistry.counter("datasource.replica.fallback").count()).isZero();
+    }
+
+    private String whoAmI(JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate.queryForObject("select name from node", String.class);
+    }
+
+    private ReplicaLagMonitor monitor(String lagQuery, long maxLagSeconds) {
+        return new ReplicaLagMonitor(new JdbcTemplate(replicaDataSource), lagQuery, "seconds_behind", maxLagSeconds);
+    }
+
+    private DataSource routing(ReplicaLagMonitor monitor) {
+        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(monitor, meterRegistry);
+        routingDataSource.setTargetDataSources(Map.of(
+                DataSourceType.PRIMARY, primaryDataSource,
+                DataSourceType.REPLICA, replicaDataSource));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    private TransactionTemplate transactionTemplate(DataSource dataSource, boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate;
+    }
+
+    private static DataSource h2(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table if not exists node (name varchar(20))");
+        jdbcTemplate.execute("delete from node");
+        jdbcTemplate.update("insert into node values (?)", name);
+        return dataSource;
+    }
+}
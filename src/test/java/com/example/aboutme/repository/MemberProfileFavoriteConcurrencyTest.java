@@ -0,0 +1,136 @@
+package com.example.aboutme.repository;
+
+import com.example.aboutme.domain.Member;
+import com.example.aboutme.domain.Profile;
+import com.example.aboutme.domain.constant.Social;
+import com.example.aboutme.domain.mapping.MemberProfile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 스레드마다 별도 트랜잭션으로 커밋한다
+class MemberProfileFavoriteConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int UPDATES_PER_THREAD = 25;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private MemberProfileRepository memberProfileRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long memberId;
+    private Long profileId;
+    private Long memberProfileId;
+
+    @BeforeEach
+    void setUp() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Member owner = memberRepository.save(Member.builder().social(Social.KAKAO).email("owner@test.com").build());
+            Member member = memberRepository.save(Member.builder().social(Social.KAKAO).email("member@test.com").build());
+            Profile profile = profileRepository.save(Profile.builder().serialNumber(123456).isDefault(true).member(owner).build());
+            MemberProfile memberProfile = memberProfileRepository.save(MemberProfile.builder().favorite(false).member(member).profile(profile).build());
+
+            memberId = member.getId();
+            profileId = profile.getId();
+            memberProfileId = memberProfile.getId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        memberProfileRepository.deleteAllInBatch();
+        profileRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void concurrentUpdatesAreAllApplied() throws Exception {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> futures = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            boolean favorite = t % 2 == 0;
+            futures.add(executor.submit(() -> {
+                start.await();
+                int updated = 0;
+                for (int i = 0; i < UPDATES_PER_THREAD; i++) {
+                    updated += transactionTemplate.execute(status -> memberProfileRepository.updateFavorite(memberId, profileId, favorite));
+                }
+                return updated;
+            }));
+        }
+        start.countDown();
+
+        int updated = 0;
+        for (Future<Integer> future : futures) {
+            updated += future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // 읽고 뒤집는 방식이었다면 동시에 읽은 요청끼리 버전 증가가 유실된다
+        MemberProfile memberProfile = memberProfileRepository.findById(memberProfileId).orElseThrow();
+        assertThat(updated).isEqualTo(THREADS * UPDATES_PER_THREAD);
+        assertThat(memberProfile.getVersion()).isEqualTo((long) THREADS * UPDATES_PER_THREAD);
+    }
+
+    @Test
+    void setFavoriteIsIdempotent() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        transactionTemplate.execute(status -> memberProfileRepository.updateFavorite(memberId, profileId, true));
+        transactionTemplate.execute(status -> memberProfileRepository.updateFavorite(memberId, profileId, true));
+
+        assertThat(memberProfileRepository.findById(memberProfileId).orElseThrow().getFavorite()).isTrue();
+        assertThat(transactionTemplate.execute(status -> memberProfileRepository.updateFavorite(memberId, -1L, true))).isZero();
+    }
+
+    @Test
+    void staleEntityWriteIsRejected() {
+        TransactionTemplate outer = new TransactionTemplate(transactionManager);
+        TransactionTemplate inner = new TransactionTemplate(transactionManager);
+        inner.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        assertThatThrownBy(() -> outer.executeWithoutResult(status -> {
+            MemberProfile stale = memberProfileRepository.findById(memberProfileId).orElseThrow();
+
+            // 다른 기기에서 먼저 즐겨찾기를 바꾼 상황
+            inner.execute(s -> memberProfileRepository.updateFavorite(memberId, profileId, true));
+
+            memberProfileRepository.delete(stale);
+            memberProfileRepository.flush();
+        })).isInstanceOf(OptimisticLockingFailureException.class);
+    }
+}
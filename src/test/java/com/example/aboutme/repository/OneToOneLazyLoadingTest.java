@@ -0,0 +1,76 @@
+package com.example.aboutme.repository;
+
+import com.example.aboutme.domain.Member;
+import com.example.aboutme.domain.Profile;
+import com.example.aboutme.domain.ProfileImage;
+import com.example.aboutme.domain.Space;
+import com.example.aboutme.domain.constant.ProfileImageType;
+import com.example.aboutme.domain.constant.Social;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class OneToOneLazyLoadingTest {
+
+    private static final int PROFILES = 3;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(Member.builder().social(Social.KAKAO).email("lazy@test.com").build());
+        entityManager.persist(Space.builder().nickname("space").characterType(1).roomType(1).member(member).build());
+        for (int i = 0; i < PROFILES; i++) {
+            ProfileImage profileImage = ProfileImage.builder().type(ProfileImageType.NONE).build();
+            profileRepository.save(Profile.builder().serialNumber(100000 + i).isDefault(i == 0).member(member).profileImage(profileImage).build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void loadingMemberDoesNotLoadSpace() {
+        Member found = memberRepository.findByEmailAndSocial("lazy@test.com", Social.KAKAO).orElseThrow();
+
+        // mappedBy 쪽 Member.space 가 있으면 회원마다 space 조회가 한 번 더 나간다
+        assertThat(found.getId()).isEqualTo(member.getId());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void loadingProfilesDoesNotLoadProfileImages() {
+        List<Profile> profileList = profileRepository.findAllByMemberOrderByIsDefaultDesc(member);
+
+        // 외래키가 profile 쪽에 있으므로 프로필 이미지는 프록시로 남는다
+        assertThat(profileList).hasSize(PROFILES);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(PROFILES);
+    }
+}
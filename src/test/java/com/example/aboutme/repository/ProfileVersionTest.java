@@ -0,0 +1,69 @@
+package com.example.aboutme.repository;
+
+import com.example.aboutme.domain.Member;
+import com.example.aboutme.domain.Profile;
+import com.example.aboutme.domain.ProfileImage;
+import com.example.aboutme.domain.Space;
+import com.example.aboutme.domain.constant.ProfileImageType;
+import com.example.aboutme.domain.constant.Social;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import javax.persistence.EntityManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class ProfileVersionTest {
+
+    private static final String EMAIL = "version@test.com";
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Member member;
+    private Space space;
+    private Profile profile;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(Member.builder().social(Social.KAKAO).email(EMAIL).build());
+        space = Space.builder().nickname("version").characterType(1).roomType(1).member(member).build();
+        entityManager.persist(space);
+        // 캐릭터 이미지는 스페이스의 캐릭터를 응답한다
+        ProfileImage profileImage = ProfileImage.builder().type(ProfileImageType.CHARACTER).space(space).build();
+        profile = profileRepository.save(Profile.builder().serialNumber(400000).isDefault(true).member(member).profileImage(profileImage).build());
+        entityManager.flush();
+    }
+
+    @Test
+    void spaceChangeChangesMyProfilesVersion() {
+        String before = profileRepository.findVersionByEmailAndSocial(EMAIL, Social.KAKAO.name()).orElseThrow();
+
+        space.updateCharacterType(2);
+        entityManager.flush();
+
+        assertThat(profileRepository.findVersionByEmailAndSocial(EMAIL, Social.KAKAO.name()).orElseThrow()).isNotEqualTo(before);
+    }
+
+    @Test
+    void spaceChangeChangesMyProfileVersion() {
+        String before = profileRepository.findVersionById(profile.getId());
+
+        space.updateCharacterType(2);
+        entityManager.flush();
+
+        assertThat(profileRepository.findVersionById(profile.getId())).isNotEqualTo(before);
+    }
+}
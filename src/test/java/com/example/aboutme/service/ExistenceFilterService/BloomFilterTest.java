@@ -0,0 +1,40 @@
+package com.example.aboutme.service.ExistenceFilterService;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    @Test
+    void addedValuesAreNeverMissed() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+
+        for (int serialNumber = 0; serialNumber < 10_000; serialNumber++) {
+            filter.add(BloomFilter.hash(serialNumber));
+        }
+
+        for (int serialNumber = 0; serialNumber < 10_000; serialNumber++) {
+            assertThat(filter.mightContain(BloomFilter.hash(serialNumber))).isTrue();
+        }
+        assertThat(filter.mightContain(BloomFilter.hash("닉네임"))).isFalse();
+    }
+
+    @Test
+    void falsePositiveRateStaysNearConfiguredValue() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (int serialNumber = 0; serialNumber < 10_000; serialNumber++) {
+            filter.add(BloomFilter.hash(serialNumber));
+        }
+
+        int falsePositives = 0;
+        for (int serialNumber = 10_000; serialNumber < 110_000; serialNumber++) {
+            if (filter.mightContain(BloomFilter.hash(serialNumber))) {
+                falsePositives++;
+            }
+        }
+
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+        assertThat(filter.expectedFpp()).isBetween(0.005, 0.02);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.aboutme.service.ProfileVisitorService;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class HyperLogLogTest {
+
+    @Test
+    void estimateIsWithinErrorBound() {
+        for (int visitors : new int[]{10, 1_000, 100_000}) {
+            HyperLogLog sketch = new HyperLogLog();
+            for (long memberId = 1; memberId <= visitors; memberId++) {
+                sketch.add(memberId);
+                sketch.add(memberId); // 같은 멤버가 다시 방문해도 한 번만 센다
+            }
+
+            // 표준 오차 약 2.3% 의 세 배
+            assertThat((double) sketch.estimate()).isCloseTo(visitors, within(visitors * 0.07 + 1));
+        }
+    }
+
+    @Test
+    void mergeEstimatesUnion() {
+        HyperLogLog first = new HyperLogLog();
+        HyperLogLog second = new HyperLogLog();
+        for (long memberId = 1; memberId <= 30_000; memberId++) {
+            first.add(memberId);
+        }
+        for (long memberId = 20_001; memberId <= 50_000; memberId++) {
+            second.add(memberId);
+        }
+
+        first.merge(second);
+
+        assertThat((double) first.estimate()).isCloseTo(50_000, within(50_000 * 0.07));
+    }
+
+    @Test
+    void bytesRoundTrip() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (long memberId = 1; memberId <= 5_000; memberId++) {
+            sketch.add(memberId);
+        }
+
+        byte[] bytes = sketch.toBytes();
+
+        assertThat(bytes).hasSize(HyperLogLog.REGISTER_COUNT);
+        assertThat(HyperLogLog.fromBytes(bytes).estimate()).isEqualTo(sketch.estimate());
+        assertThatThrownBy(() -> HyperLogLog.fromBytes(new byte[16])).isInstanceOf(IllegalArgumentException.class);
+    }
+}
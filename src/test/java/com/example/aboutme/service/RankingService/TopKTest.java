@@ -0,0 +1,44 @@
+package com.example.aboutme.service.RankingService;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TopKTest {
+
+    @Test
+    void keepsHighestCountsInOrder() {
+        TopK topK = new TopK(2);
+
+        topK.add(1L, 1);
+        topK.add(2L, 1);
+        topK.add(3L, 1);
+        topK.add(3L, 1);
+
+        assertThat(topK.top()).containsExactly(new TopK.Entry(3L, 2), new TopK.Entry(1L, 1));
+    }
+
+    @Test
+    void decrementInTopPromotesItemOutsideTop() {
+        TopK topK = new TopK(2);
+        topK.reset(Map.of(1L, 5L, 2L, 4L, 3L, 3L));
+
+        topK.add(1L, -3);
+
+        // 1번이 2로 줄어 상위 밖에 있던 3번이 올라온다
+        assertThat(topK.top()).containsExactly(new TopK.Entry(2L, 4), new TopK.Entry(3L, 3));
+    }
+
+    @Test
+    void removedItemLeavesTop() {
+        TopK topK = new TopK(3);
+        topK.add(1L, 1);
+        topK.add(2L, 2);
+
+        topK.add(1L, -1);
+
+        assertThat(topK.top()).containsExactly(new TopK.Entry(2L, 2));
+    }
+}
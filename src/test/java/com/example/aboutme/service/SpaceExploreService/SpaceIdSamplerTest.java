@@ -0,0 +1,42 @@
+package com.example.aboutme.service.SpaceExploreService;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpaceIdSamplerTest {
+
+    @Test
+    void sampleSkipsExcludedAndRemovedIds() {
+        SpaceIdSampler sampler = new SpaceIdSampler();
+        sampler.reset(List.of(1L, 2L, 3L, 4L, 5L));
+
+        sampler.remove(2L);
+        sampler.add(6L);
+
+        List<Long> sample = sampler.sample(10, Set.of(1L, 3L), new Random(1));
+
+        assertThat(sampler.size()).isEqualTo(5);
+        assertThat(sample).containsExactlyInAnyOrder(4L, 5L, 6L);
+    }
+
+    @Test
+    void sampleIsRoughlyUniform() {
+        SpaceIdSampler sampler = new SpaceIdSampler();
+        sampler.reset(List.of(1L, 2L, 3L, 4L));
+        Random random = new Random(7);
+        int[] hits = new int[5];
+
+        for (int i = 0; i < 40_000; i++) {
+            hits[sampler.sample(1, Set.of(), random).get(0).intValue()]++;
+        }
+
+        for (int id = 1; id <= 4; id++) {
+            assertThat(hits[id]).isBetween(9_000, 11_000);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.aboutme.support;
+
+import com.example.aboutme.config.sql.SqlStatementCountFilter;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 엔드포인트별 SQL 실행 횟수 검증용 MockMvc matcher
+ * 예) mockMvc.perform(get("/myspaces/storage")).andExpect(SqlStatementCount.atMost(3));
+ */
+public class SqlStatementCount {
+
+    public static ResultMatcher atMost(int expected) {
+        return result -> assertThat(statementCount(result.getResponse().getHeader(SqlStatementCountFilter.STATEMENT_COUNT_HEADER)))
+                .as("SQL statement count of %s", result.getRequest().getRequestURI())
+                .isLessThanOrEqualTo(expected);
+    }
+
+    public static ResultMatcher exactly(int expected) {
+        return result -> assertThat(statementCount(result.getResponse().getHeader(SqlStatementCountFilter.STATEMENT_COUNT_HEADER)))
+                .as("SQL statement count of %s", result.getRequest().getRequestURI())
+                .isEqualTo(expected);
+    }
+
+    private static int statementCount(String header) {
+        assertThat(header)
+                .as("%s header (sql-monitor.expose-headers 가 켜져 있어야 함)", SqlStatementCountFilter.STATEMENT_COUNT_HEADER)
+                .isNotNull();
+        return Integer.parseInt(header);
+    }
+}